@@ -0,0 +1,73 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeansCalculationKernelBenchmark {
+
+    // Roughly the number of income and outgoings lines in a full assessment, applicant and partner together
+    private static final int DETAILS = 40;
+
+    private static final BigDecimal ANNUAL_TOTAL = new BigDecimal("31245.67");
+    private static final ScaledAssessmentCriteria.Weightings WEIGHTINGS = ScaledAssessmentCriteria.Weightings.of(
+            new BigDecimal("1.00"), new BigDecimal("0.64"), new BigDecimal("5676.00"));
+    private static final BigDecimal TOTAL_CHILD_WEIGHTING = new BigDecimal("0.71");
+
+    @Param({"big-decimal", "fixed-point"})
+    private String kernel;
+
+    private MeansCalculationKernel calculationKernel;
+    private BigDecimal[] amounts;
+    private Frequency[] frequencies;
+
+    @Setup
+    public void setUp() {
+        calculationKernel = "fixed-point".equals(kernel)
+                ? new FixedPointMeansCalculationKernel()
+                : new BigDecimalMeansCalculationKernel();
+
+        Random random = new Random(42);
+        Frequency[] values = Frequency.values();
+        amounts = new BigDecimal[DETAILS];
+        frequencies = new Frequency[DETAILS];
+        for (int i = 0; i < DETAILS; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(0, 500_000), 2);
+            frequencies[i] = values[random.nextInt(values.length)];
+        }
+    }
+
+    @Benchmark
+    public BigDecimal summariesTotal() {
+        MeansCalculationKernel.Accumulator total = calculationKernel.newAccumulator();
+        for (int i = 0; i < DETAILS; i++) {
+            total.addDetail(amounts[i], frequencies[i]);
+        }
+        return total.getTotal();
+    }
+
+    @Benchmark
+    public BigDecimal adjustedIncome() {
+        return calculationKernel.calculateAdjustedIncome(ANNUAL_TOTAL, WEIGHTINGS, TOTAL_CHILD_WEIGHTING);
+    }
+
+    @Benchmark
+    public BigDecimal adjustedLivingAllowance() {
+        return calculationKernel.calculateAdjustedLivingAllowance(WEIGHTINGS, TOTAL_CHILD_WEIGHTING);
+    }
+}
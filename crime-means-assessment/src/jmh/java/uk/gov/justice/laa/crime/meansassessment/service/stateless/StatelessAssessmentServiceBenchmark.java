@@ -0,0 +1,237 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentChildWeighting;
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentSectionSummary;
+import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
+import uk.gov.justice.laa.crime.enums.InitAssessmentResult;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.enums.meansassessment.AgeRange;
+import uk.gov.justice.laa.crime.enums.meansassessment.IncomeType;
+import uk.gov.justice.laa.crime.enums.meansassessment.OutgoingType;
+import uk.gov.justice.laa.crime.enums.meansassessment.StatelessRequestType;
+import uk.gov.justice.laa.crime.meansassessment.FrequencyAmount;
+import uk.gov.justice.laa.crime.meansassessment.Income;
+import uk.gov.justice.laa.crime.meansassessment.Outgoing;
+import uk.gov.justice.laa.crime.meansassessment.factory.MeansAssessmentServiceFactory;
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaChildWeightingService;
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
+import uk.gov.justice.laa.crime.meansassessment.service.FullAssessmentAvailabilityService;
+import uk.gov.justice.laa.crime.meansassessment.service.FullMeansAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.InitMeansAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundle;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundleMapper;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaCalculator;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotLoader;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Runs {@link StatelessAssessmentService#execute} end to end over one criteria period holding every stateless detail
+ * line, beside the same assessment worked straight through the period's {@link AssessmentCriteriaCalculator} and the
+ * calculation kernel from section summaries mapped once in setup. The gap between the two is what the services, the
+ * request mapping and the result building add on top of the calculator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatelessAssessmentServiceBenchmark {
+
+    private static final LocalDateTime DATE_FROM = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    private static final Map<String, List<String>> DETAIL_CODES_BY_SECTION = Map.of(
+            "INITA", List.of("OTHER_INC", "SAVINGS", "SELF_EMP"),
+            "INITB",
+                    List.of(
+                            "EMP_INC", "WORK_BEN", "CHILD_BEN", "TAX_CRED", "HOUSE_BEN", "INCAP_BEN", "STATE_PEN",
+                            "INJ_BEN", "OTHER_BEN", "PRIV_PENS", "MAINT_INC"),
+            "FULLA", List.of("RENT_MORT", "COUNCIL", "OTHER_HOUS"),
+            "FULLB", List.of("TAX", "NI", "CHILD_COST", "MAINT_COST"));
+
+    private GenericApplicationContext applicationContext;
+    private StatelessAssessmentService statelessAssessmentService;
+    private MeansCalculationKernel calculationKernel;
+    private AssessmentCriteria criteria;
+    private List<ApiAssessmentSectionSummary> incomeSummaries;
+    private List<ApiAssessmentSectionSummary> outgoingSummaries;
+    private List<ApiAssessmentChildWeighting> childWeightings;
+    private Assessment assessment;
+    private Map<AgeRange, Integer> childGroupings;
+    private List<Income> incomes;
+    private List<Outgoing> outgoings;
+
+    @Setup
+    public void setUp() {
+        List<AssessmentCriteria> assessmentCriteria = AssessmentCriteriaBundleMapper.toAssessmentCriteria(bundle());
+        AssessmentCriteriaSnapshot snapshot = AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(assessmentCriteria)
+                .version("benchmark")
+                .fingerprint("benchmark")
+                .loadedAt(Instant.now())
+                .build();
+        AssessmentCriteriaSnapshotHolder snapshotHolder = new AssessmentCriteriaSnapshotHolder(
+                new AssessmentCriteriaSnapshotLoader() {
+                    @Override
+                    public AssessmentCriteriaSnapshot load() {
+                        return snapshot;
+                    }
+
+                    @Override
+                    public String readFingerprint() {
+                        return snapshot.getFingerprint();
+                    }
+                },
+                new SimpleMeterRegistry());
+
+        calculationKernel = new BigDecimalMeansCalculationKernel();
+        AssessmentCriteriaChildWeightingService childWeightingService = new AssessmentCriteriaChildWeightingService();
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(
+                InitMeansAssessmentService.class,
+                () -> new InitMeansAssessmentService(childWeightingService, calculationKernel));
+        applicationContext.registerBean(
+                FullMeansAssessmentService.class,
+                () -> new FullMeansAssessmentService(childWeightingService, calculationKernel));
+        applicationContext.refresh();
+
+        statelessAssessmentService = new StatelessAssessmentService(
+                new AssessmentCriteriaService(snapshotHolder),
+                new MeansAssessmentServiceFactory(applicationContext),
+                new FullAssessmentAvailabilityService(),
+                calculationKernel);
+
+        assessment = new Assessment()
+                .withAssessmentType(StatelessRequestType.BOTH)
+                .withAssessmentDate(DATE_FROM.plusMonths(6))
+                .withHasPartner(true)
+                .withEligibilityCheckRequired(true)
+                .withCaseType(CaseType.EITHER_WAY)
+                .withMagistrateCourtOutcome(MagCourtOutcome.COMMITTED_FOR_TRIAL);
+        childGroupings = Map.of(AgeRange.ZERO_TO_ONE, 1, AgeRange.FIVE_TO_SEVEN, 2);
+        FrequencyAmount income = new FrequencyAmount(Frequency.MONTHLY, new BigDecimal("1250.00"));
+        FrequencyAmount outgoing = new FrequencyAmount(Frequency.MONTHLY, new BigDecimal("85.50"));
+        incomes = Arrays.stream(IncomeType.values())
+                .map(incomeType -> new Income(incomeType, income, income))
+                .toList();
+        outgoings = Arrays.stream(OutgoingType.values())
+                .map(outgoingType -> new Outgoing(outgoingType, outgoing, outgoing))
+                .toList();
+
+        criteria = assessmentCriteria.get(0);
+        incomeSummaries = StatelessDataAdapter.mapIncomesToSectionSummaries(criteria, incomes);
+        outgoingSummaries = StatelessDataAdapter.mapOutgoingsToSectionSummaries(criteria, outgoings);
+        childWeightings = StatelessDataAdapter.mapChildGroupings(childGroupings, criteria.childWeightings());
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public StatelessResult execute() {
+        return statelessAssessmentService.execute(assessment, childGroupings, incomes, outgoings);
+    }
+
+    @Benchmark
+    public FullAssessmentResult calculator() {
+        AssessmentCriteriaCalculator calculator = criteria.calculator();
+        CaseType caseType = assessment.getCaseType();
+        BigDecimal annualIncome = total(calculator, caseType, incomeSummaries);
+        BigDecimal totalChildWeighting = calculator.getTotalChildWeighting(childWeightings);
+        ScaledAssessmentCriteria.Weightings weightings = calculator.weightingsFor(assessment.getHasPartner(), false);
+
+        BigDecimal adjustedIncome =
+                calculationKernel.calculateAdjustedIncome(annualIncome, weightings, totalChildWeighting);
+        if (calculator.getInitAssessmentResult(adjustedIncome, null) != InitAssessmentResult.FULL) {
+            return null;
+        }
+
+        BigDecimal annualOutgoings = total(calculator, caseType, outgoingSummaries);
+        BigDecimal adjustedLivingAllowance =
+                calculationKernel.calculateAdjustedLivingAllowance(weightings, totalChildWeighting);
+        BigDecimal disposableIncome = annualIncome.subtract(annualOutgoings.add(adjustedLivingAllowance));
+        return calculator.getFullAssessmentResult(disposableIncome, assessment.getEligibilityCheckRequired());
+    }
+
+    private BigDecimal total(
+            AssessmentCriteriaCalculator calculator, CaseType caseType, List<ApiAssessmentSectionSummary> summaries) {
+        MeansCalculationKernel.Accumulator annualTotal = calculationKernel.newAccumulator();
+        for (ApiAssessmentSectionSummary sectionSummary : summaries) {
+            for (ApiAssessmentDetail detail : sectionSummary.getAssessmentDetails()) {
+                calculator.checkAssessmentDetail(caseType, sectionSummary.getSection(), detail);
+                annualTotal.addDetail(detail.getApplicantAmount(), detail.getApplicantFrequency());
+                annualTotal.addDetail(detail.getPartnerAmount(), detail.getPartnerFrequency());
+            }
+        }
+        return annualTotal.getTotal();
+    }
+
+    private static AssessmentCriteriaBundle bundle() {
+        List<AssessmentCriteriaBundle.ChildWeighting> childWeightings = new ArrayList<>();
+        for (AgeRange ageRange : AgeRange.values()) {
+            childWeightings.add(new AssessmentCriteriaBundle.ChildWeighting(
+                    childWeightings.size() + 1,
+                    ageRange.getLowerLimit(),
+                    ageRange.getUpperLimit(),
+                    new BigDecimal("0.15")));
+        }
+        List<AssessmentCriteriaBundle.Detail> details = new ArrayList<>();
+        DETAIL_CODES_BY_SECTION.forEach((section, detailCodes) -> {
+            for (String detailCode : detailCodes) {
+                details.add(new AssessmentCriteriaBundle.Detail(
+                        details.size() + 1,
+                        section,
+                        details.size() + 1,
+                        detailCode,
+                        true,
+                        detailCode,
+                        detailCode,
+                        Arrays.stream(Frequency.values()).map(Frequency::getCode).toList(),
+                        List.of()));
+            }
+        });
+        AssessmentCriteriaBundle.Criteria period = new AssessmentCriteriaBundle.Criteria(
+                1,
+                DATE_FROM,
+                null,
+                new BigDecimal("12475.00"),
+                new BigDecimal("22325.00"),
+                new BigDecimal("3398.00"),
+                new BigDecimal("1.00"),
+                new BigDecimal("0.64"),
+                new BigDecimal("5676.00"),
+                new BigDecimal("37500.00"),
+                childWeightings,
+                details);
+        return new AssessmentCriteriaBundle(
+                AssessmentCriteriaBundle.FORMAT_VERSION, null, Instant.now(), List.of(period));
+    }
+}
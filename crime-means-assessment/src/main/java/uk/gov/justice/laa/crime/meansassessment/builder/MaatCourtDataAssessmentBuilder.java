@@ -18,7 +18,7 @@ import uk.gov.justice.laa.crime.enums.RequestType;
 import uk.gov.justice.laa.crime.enums.ReviewType;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.util.List;
 
@@ -33,7 +33,7 @@ public class MaatCourtDataAssessmentBuilder {
         CurrentStatus assessmentStatus = assessment.getCurrentStatus();
         MeansAssessmentRequestDTO requestDTO = assessment.getMeansAssessment();
         AssessmentType assessmentType = requestDTO.getAssessmentType();
-        AssessmentCriteriaEntity assessmentCriteria = assessment.getAssessmentCriteria();
+        AssessmentCriteria assessmentCriteria = assessment.getAssessmentCriteria();
 
         MaatApiAssessmentRequest apiAssessmentRequest;
 
@@ -53,7 +53,7 @@ public class MaatCourtDataAssessmentBuilder {
                 .withCmuId(requestDTO.getCmuId())
                 .withInitNotes(requestDTO.getInitAssessmentNotes())
                 .withAssessmentType(assessmentType.getType())
-                .withInitialAscrId(assessmentCriteria.getId())
+                .withInitialAscrId(assessmentCriteria.id())
                 .withInitialAssessmentDate(requestDTO.getInitialAssessmentDate())
                 .withInitOtherBenefitNote(requestDTO.getOtherBenefitNote())
                 .withInitOtherIncomeNote(requestDTO.getOtherIncomeNote())
@@ -102,7 +102,7 @@ public class MaatCourtDataAssessmentBuilder {
 
         if (AssessmentType.FULL.equals(meansAssessment.getAssessmentType())) {
             updateAssessment
-                    .withFullAscrId(assessment.getAssessmentCriteria().getId())
+                    .withFullAscrId(assessment.getAssessmentCriteria().id())
                     .withFassFullStatus(assessment.getCurrentStatus().getStatus())
                     .withFullAssessmentDate(meansAssessment.getFullAssessmentDate())
                     .withFullResult(ofNullable(assessment.getFullAssessmentResult())
@@ -9,7 +9,7 @@ import uk.gov.justice.laa.crime.common.model.meansassessment.maatapi.MaatApiAsse
 import uk.gov.justice.laa.crime.enums.AssessmentType;
 import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import org.springframework.stereotype.Component;
 
@@ -20,15 +20,15 @@ public class MeansAssessmentResponseBuilder {
 
     public ApiMeansAssessmentResponse build(
             final MaatApiAssessmentResponse maatApiAssessmentResponse,
-            final AssessmentCriteriaEntity assessmentCriteria,
+            final AssessmentCriteria assessmentCriteria,
             final MeansAssessmentDTO completedAssessment) {
 
         ApiMeansAssessmentResponse response = new ApiMeansAssessmentResponse()
                 .withAssessmentId(maatApiAssessmentResponse.getId())
                 .withRepId(completedAssessment.getMeansAssessment().getRepId())
-                .withCriteriaId(assessmentCriteria.getId())
-                .withLowerThreshold(assessmentCriteria.getInitialLowerThreshold())
-                .withUpperThreshold(assessmentCriteria.getInitialUpperThreshold())
+                .withCriteriaId(assessmentCriteria.id())
+                .withLowerThreshold(assessmentCriteria.initialLowerThreshold())
+                .withUpperThreshold(assessmentCriteria.initialUpperThreshold())
                 .withTotalAggregatedIncome(completedAssessment.getTotalAggregatedIncome())
                 .withInitResult(maatApiAssessmentResponse.getInitResult())
                 .withInitResultReason(maatApiAssessmentResponse.getInitResultReason())
@@ -52,12 +52,12 @@ public class MeansAssessmentResponseBuilder {
     }
 
     void buildFull(
-            AssessmentCriteriaEntity assessmentCriteria,
+            AssessmentCriteria assessmentCriteria,
             MeansAssessmentDTO completedAssessment,
             ApiMeansAssessmentResponse response) {
         response.withAdjustedLivingAllowance(completedAssessment.getAdjustedLivingAllowance())
                 .withTotalAnnualDisposableIncome(completedAssessment.getTotalAnnualDisposableIncome())
-                .withFullThreshold(assessmentCriteria.getFullThreshold())
+                .withFullThreshold(assessmentCriteria.fullThreshold())
                 .withTotalAggregatedExpense(completedAssessment.getTotalAggregatedExpense())
                 .withFullResult(ofNullable(completedAssessment.getFullAssessmentResult())
                         .map(FullAssessmentResult::getResult)
@@ -20,8 +20,8 @@ import uk.gov.justice.laa.crime.enums.ReviewType;
 import uk.gov.justice.laa.crime.meansassessment.dto.AssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDetails;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.enums.Section;
 
 import java.math.BigDecimal;
@@ -42,7 +42,7 @@ public class MeansAssessmentSectionSummaryBuilder {
             ApiGetMeansAssessmentResponse assessmentResponse,
             FinancialAssessmentDTO financialAssessmentDTO,
             List<ApiAssessmentSectionSummary> assessmentSectionSummaryList,
-            Optional<AssessmentCriteriaEntity> criteriaEntity) {
+            Optional<AssessmentCriteria> assessmentCriteria) {
 
         ApiInitialMeansAssessment initialMeansAssessment = assessmentResponse.getInitialAssessment();
         initialMeansAssessment.setId(financialAssessmentDTO.getInitialAscrId());
@@ -52,9 +52,9 @@ public class MeansAssessmentSectionSummaryBuilder {
         initialMeansAssessment.setTotalAggregatedIncome(financialAssessmentDTO.getInitTotAggregatedIncome());
         initialMeansAssessment.setAdjustedIncomeValue(financialAssessmentDTO.getInitAdjustedIncomeValue());
         initialMeansAssessment.setNotes(financialAssessmentDTO.getInitNotes());
-        if (criteriaEntity.isPresent()) {
-            initialMeansAssessment.setLowerThreshold(criteriaEntity.get().getInitialLowerThreshold());
-            initialMeansAssessment.setUpperThreshold(criteriaEntity.get().getInitialUpperThreshold());
+        if (assessmentCriteria.isPresent()) {
+            initialMeansAssessment.setLowerThreshold(assessmentCriteria.get().initialLowerThreshold());
+            initialMeansAssessment.setUpperThreshold(assessmentCriteria.get().initialUpperThreshold());
         }
         initialMeansAssessment.setResult(financialAssessmentDTO.getInitResult());
         initialMeansAssessment.setResultReason(financialAssessmentDTO.getInitResultReason());
@@ -97,7 +97,7 @@ public class MeansAssessmentSectionSummaryBuilder {
             ApiGetMeansAssessmentResponse assessmentResponse,
             FinancialAssessmentDTO financialAssessmentDTO,
             List<ApiAssessmentSectionSummary> assessmentSectionSummaryList,
-            Optional<AssessmentCriteriaEntity> criteriaEntity) {
+            Optional<AssessmentCriteria> assessmentCriteria) {
 
         ApiFullMeansAssessment apiFullMeansAssessment = assessmentResponse.getFullAssessment();
         apiFullMeansAssessment.setCriteriaId(financialAssessmentDTO.getFullAscrId());
@@ -108,8 +108,7 @@ public class MeansAssessmentSectionSummaryBuilder {
         apiFullMeansAssessment.setTotalAggregatedExpense(financialAssessmentDTO.getFullTotalAggregatedExpenses());
         apiFullMeansAssessment.setTotalAnnualDisposableIncome(
                 financialAssessmentDTO.getFullTotalAnnualDisposableIncome());
-        criteriaEntity.ifPresent(assessmentCriteriaEntity ->
-                apiFullMeansAssessment.setThreshold(assessmentCriteriaEntity.getFullThreshold()));
+        assessmentCriteria.ifPresent(criteria -> apiFullMeansAssessment.setThreshold(criteria.fullThreshold()));
         apiFullMeansAssessment.setResult(financialAssessmentDTO.getFullResult());
         apiFullMeansAssessment.setResultReason(financialAssessmentDTO.getFullResultReason());
 
@@ -195,24 +194,22 @@ public class MeansAssessmentSectionSummaryBuilder {
     }
 
     public AssessmentDTO buildAssessmentDTO(
-            AssessmentCriteriaDetailEntity assessmentCriteriaDetailEntity,
-            FinancialAssessmentDetails financialAssessmentDetails) {
+            AssessmentCriteriaDetail assessmentCriteriaDetail, FinancialAssessmentDetails financialAssessmentDetails) {
 
         AssessmentDTO assessmentDTO = new AssessmentDTO();
         assessmentDTO.setCriteriaDetailId(financialAssessmentDetails.getCriteriaDetailId());
-        assessmentDTO.setSection(assessmentCriteriaDetailEntity.getSection());
-        assessmentDTO.setCriteriaDetailDescription(assessmentCriteriaDetailEntity.getDescription());
-        assessmentDTO.setFinancialDetailId(assessmentCriteriaDetailEntity.getId());
+        assessmentDTO.setSection(assessmentCriteriaDetail.section());
+        assessmentDTO.setCriteriaDetailDescription(assessmentCriteriaDetail.description());
+        assessmentDTO.setFinancialDetailId(assessmentCriteriaDetail.id());
         assessmentDTO.setApplicantAmount(financialAssessmentDetails.getApplicantAmount());
         assessmentDTO.setApplicantFrequency(financialAssessmentDetails.getApplicantFrequency());
         assessmentDTO.setPartnerFrequency(financialAssessmentDetails.getPartnerFrequency());
         assessmentDTO.setPartnerAmount(financialAssessmentDetails.getPartnerAmount());
         assessmentDTO.setDateModified(financialAssessmentDetails.getDateModified());
-        assessmentDTO.setSequence(assessmentCriteriaDetailEntity.getSeq());
+        assessmentDTO.setSequence(assessmentCriteriaDetail.seq());
 
-        if (null != assessmentCriteriaDetailEntity.getAssessmentDetail()) {
-            assessmentDTO.setAssessmentDetailCode(
-                    assessmentCriteriaDetailEntity.getAssessmentDetail().getDetailCode());
+        if (null != assessmentCriteriaDetail.detailCode()) {
+            assessmentDTO.setAssessmentDetailCode(assessmentCriteriaDetail.detailCode());
         }
 
         return assessmentDTO;
@@ -0,0 +1,23 @@
+package uk.gov.justice.laa.crime.meansassessment.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Executor for Court Data API calls that are issued alongside one another. Each call gets its own virtual thread,
+ * which parks rather than holding a platform thread while the blocking WebClient waits on the response.
+ */
+@Configuration
+public class CourtDataExecutorConfiguration {
+
+    public static final String COURT_DATA_EXECUTOR = "courtDataExecutor";
+
+    @Bean(COURT_DATA_EXECUTOR)
+    public SimpleAsyncTaskExecutor courtDataExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("court-data-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.crime.meansassessment.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Carries the submitting thread's request attributes, security context and MDC into a task. The OAuth2 filter on the
+ * Court Data API client looks up the authorised client through the current request, the pinned criteria snapshot is
+ * held as a request attribute, and log lines need the caller's trace id.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            SecurityContextHolder.setContext(securityContext);
+            setContextMap(contextMap);
+            try {
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                SecurityContextHolder.setContext(previousContext);
+                setContextMap(previousContextMap);
+            }
+        };
+    }
+
+    private static void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
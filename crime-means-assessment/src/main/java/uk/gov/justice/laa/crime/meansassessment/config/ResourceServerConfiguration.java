@@ -5,6 +5,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -21,6 +22,11 @@ public class ResourceServerConfiguration {
     public static final String API_PATH = "/api/**";
     public static final String SCOPE_CMA_STANDARD = "SCOPE_cma/standard";
 
+    // Every other actuator operation, including the criteria reload and grant invalidation, needs a token
+    private static final String[] PUBLIC_ACTUATOR_PATHS = {
+        "/actuator/health/**", "/actuator/info", "/actuator/prometheus"
+    };
+
     @Bean
     protected BearerTokenAuthenticationEntryPoint bearerTokenAuthenticationEntryPoint() {
         BearerTokenAuthenticationEntryPoint bearerTokenAuthenticationEntryPoint =
@@ -42,7 +48,7 @@ public class ResourceServerConfiguration {
                         .permitAll()
                         .requestMatchers("/open-api/**")
                         .permitAll()
-                        .requestMatchers("/actuator/**")
+                        .requestMatchers(HttpMethod.GET, PUBLIC_ACTUATOR_PATHS)
                         .permitAll()
                         .requestMatchers(API_PATH)
                         .hasAuthority(SCOPE_CMA_STANDARD)
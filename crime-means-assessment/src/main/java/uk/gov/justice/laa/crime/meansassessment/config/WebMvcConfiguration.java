@@ -0,0 +1,23 @@
+package uk.gov.justice.laa.crime.meansassessment.config;
+
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.meansassessment.service.CourtDataReadsInterceptor;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaVersionInterceptor;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final AssessmentCriteriaVersionInterceptor assessmentCriteriaVersionInterceptor;
+    private final CourtDataReadsInterceptor courtDataReadsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(assessmentCriteriaVersionInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(courtDataReadsInterceptor).addPathPatterns("/api/**");
+    }
+}
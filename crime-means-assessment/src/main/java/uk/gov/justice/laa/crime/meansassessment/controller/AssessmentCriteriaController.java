@@ -0,0 +1,46 @@
+package uk.gov.justice.laa.crime.meansassessment.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.annotation.DefaultHTTPErrorResponse;
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundle;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/internal/v1/assessment/criteria")
+@Tag(name = "Assessment Criteria", description = "Rest API for Assessment Criteria.")
+public class AssessmentCriteriaController {
+
+    private final AssessmentCriteriaService assessmentCriteriaService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Retrieve every assessment criteria period with its child weightings and details")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AssessmentCriteriaBundle.class)))
+    @DefaultHTTPErrorResponse
+    public ResponseEntity<AssessmentCriteriaBundle> getAssessmentCriteria() {
+        log.info("Retrieve assessment criteria timeline");
+        AssessmentCriteriaBundle assessmentCriteria = assessmentCriteriaService.getAssessmentCriteriaTimeline();
+        return ResponseEntity.ok()
+                .eTag(assessmentCriteria.version())
+                .cacheControl(CriteriaVersionCaching.CACHE_CONTROL)
+                .body(assessmentCriteria);
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.justice.laa.crime.meansassessment.controller;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * Caching of responses that only change with a new criteria version. Each such response carries the criteria version
+ * as its ETag, so a changed version rolls the ETag; max-age bounds how long a client may keep using the response
+ * before revalidating with If-None-Match. The responses are only served to authenticated callers, so they are marked
+ * private and only the caller's own client may store them, never a shared cache.
+ */
+@UtilityClass
+class CriteriaVersionCaching {
+
+    static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate();
+}
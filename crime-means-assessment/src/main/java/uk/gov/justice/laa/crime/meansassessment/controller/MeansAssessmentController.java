@@ -24,6 +24,7 @@ import uk.gov.justice.laa.crime.meansassessment.builder.MeansAssessmentRequestDT
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
 import uk.gov.justice.laa.crime.meansassessment.service.MeansAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.RepOrderPrefetcher;
 import uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor;
 
 import java.math.BigDecimal;
@@ -51,12 +52,14 @@ public class MeansAssessmentController {
     private final AssessmentCriteriaService assessmentCriteriaService;
     private final MeansAssessmentRequestDTOBuilder meansAssessmentRequestDTOBuilder;
     private final MeansAssessmentValidationProcessor meansAssessmentValidationProcessor;
+    private final RepOrderPrefetcher repOrderPrefetcher;
 
     @DefaultHTTPErrorResponse
     private MeansAssessmentRequestDTO preProcessRequest(
             ApiMeansAssessmentRequest meansAssessment, RequestType requestType) {
         log.info("Means assessment request received with transaction id - " + meansAssessment.getLaaTransactionId());
         MeansAssessmentRequestDTO requestDTO = meansAssessmentRequestDTOBuilder.buildRequestDTO(meansAssessment);
+        repOrderPrefetcher.prefetch(requestDTO);
         meansAssessmentValidationProcessor.validate(requestDTO, requestType);
         return requestDTO;
     }
@@ -133,7 +136,12 @@ public class MeansAssessmentController {
     @DefaultHTTPErrorResponse
     public ResponseEntity<BigDecimal> fullAssessmentThreshold(@PathVariable("assessmentDate") String assessmentDate) {
         log.info("Retrieve full assessment threshold");
-        return ResponseEntity.ok(assessmentCriteriaService.getFullAssessmentThreshold(assessmentDate));
+        BigDecimal fullAssessmentThreshold = assessmentCriteriaService.getFullAssessmentThreshold(assessmentDate);
+        // A matching If-None-Match is answered with a 304 by Spring once the ETag is set
+        return ResponseEntity.ok()
+                .eTag(assessmentCriteriaService.getCriteriaVersion())
+                .cacheControl(CriteriaVersionCaching.CACHE_CONTROL)
+                .body(fullAssessmentThreshold);
     }
 
     @PatchMapping(value = "/rollback/{financialAssessmentId}", produces = MediaType.APPLICATION_JSON_VALUE)
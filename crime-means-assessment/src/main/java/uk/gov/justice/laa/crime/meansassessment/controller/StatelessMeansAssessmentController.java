@@ -12,7 +12,7 @@ import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Stateless
 import uk.gov.justice.laa.crime.enums.meansassessment.AgeRange;
 import uk.gov.justice.laa.crime.meansassessment.DependantChild;
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
-import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessResultCache;
 
 import java.util.EnumMap;
 import java.util.List;
@@ -30,7 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("api/internal/v2/assessment/means")
 public class StatelessMeansAssessmentController {
 
-    private final StatelessAssessmentService statelessAssessmentService;
+    private final StatelessResultCache statelessResultCache;
     private final AssessmentCriteriaService assessmentCriteriaService;
 
     @Operation(description = "Stateless Means Assessment")
@@ -54,7 +54,7 @@ public class StatelessMeansAssessmentController {
         var apiAssessment = meansAssessment.getAssessment();
         Map<AgeRange, Integer> childGroupings = getChildGroupings(apiAssessment.getDependantChildren());
 
-        var result = statelessAssessmentService.execute(
+        var result = statelessResultCache.execute(
                 apiAssessment, childGroupings, meansAssessment.getIncome(), meansAssessment.getOutgoings());
         var initialResult = result.getInitialResult();
         var fullResult = result.getFullResult();
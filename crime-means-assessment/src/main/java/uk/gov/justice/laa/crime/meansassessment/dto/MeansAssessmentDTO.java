@@ -5,7 +5,7 @@ import lombok.Data;
 import uk.gov.justice.laa.crime.enums.CurrentStatus;
 import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
 import uk.gov.justice.laa.crime.enums.InitAssessmentResult;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,7 +19,7 @@ public class MeansAssessmentDTO {
     private BigDecimal totalAggregatedIncome;
     private BigDecimal totalAggregatedExpense;
     private BigDecimal adjustedLivingAllowance;
-    private AssessmentCriteriaEntity assessmentCriteria;
+    private AssessmentCriteria assessmentCriteria;
     private MeansAssessmentRequestDTO meansAssessment;
     private BigDecimal totalAnnualDisposableIncome;
     private InitAssessmentResult initAssessmentResult;
@@ -3,13 +3,10 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentChildWeighting;
-import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
@@ -19,27 +16,7 @@ import org.springframework.stereotype.Service;
 public class AssessmentCriteriaChildWeightingService {
 
     protected BigDecimal getTotalChildWeighting(
-            List<ApiAssessmentChildWeighting> childWeightings, AssessmentCriteriaEntity assessmentCriteria) {
-        Set<AssessmentCriteriaChildWeightingEntity> criteriaChildWeightings =
-                assessmentCriteria.getAssessmentCriteriaChildWeightings();
-
-        if (criteriaChildWeightings.size() != childWeightings.size()) {
-            throw new ValidationException(
-                    String.format("Child weightings missing for criteria: %d", assessmentCriteria.getId()));
-        }
-
-        BigDecimal totalChildWeighting = BigDecimal.ZERO;
-
-        for (ApiAssessmentChildWeighting weighting : childWeightings) {
-            AssessmentCriteriaChildWeightingEntity childWeighting = criteriaChildWeightings.stream()
-                    .filter(cw -> cw.getId().equals(weighting.getChildWeightingId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ValidationException(
-                            String.format("Invalid child weighting id: %s", weighting.getChildWeightingId())));
-
-            totalChildWeighting = totalChildWeighting.add(
-                    childWeighting.getWeightingFactor().multiply(BigDecimal.valueOf(weighting.getNoOfChildren())));
-        }
-        return totalChildWeighting;
+            List<ApiAssessmentChildWeighting> childWeightings, AssessmentCriteria assessmentCriteria) {
+        return assessmentCriteria.calculator().getTotalChildWeighting(childWeightings);
     }
 }
@@ -2,8 +2,8 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaDetailRepository;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
 
 import java.util.Optional;
 
@@ -14,9 +14,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class AssessmentCriteriaDetailService {
 
-    private final AssessmentCriteriaDetailRepository assessmentCriteriaDetailRepository;
+    private final AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
 
-    public Optional<AssessmentCriteriaDetailEntity> getAssessmentCriteriaDetailById(Integer id) {
-        return assessmentCriteriaDetailRepository.findById(id);
+    public Optional<AssessmentCriteriaDetail> getAssessmentCriteriaDetailById(Integer id) {
+        return assessmentCriteriaSnapshotHolder.getSnapshot().findDetailById(id);
     }
 }
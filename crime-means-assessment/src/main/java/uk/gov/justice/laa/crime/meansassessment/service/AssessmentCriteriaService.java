@@ -4,23 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
 import uk.gov.justice.laa.crime.enums.CaseType;
-import uk.gov.justice.laa.crime.enums.Frequency;
 import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentCriteriaNotFoundException;
-import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailFrequencyEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.CaseTypeAssessmentCriteriaDetailValueEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaChildWeightingRepository;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaDetailFrequencyRepository;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaRepository;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.CaseTypeAssessmentCriteriaDetailValueRepository;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundle;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundleMapper;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaChildWeighting;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
 import uk.gov.justice.laa.crime.util.DateUtil;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.stereotype.Service;
 
@@ -29,100 +25,70 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class AssessmentCriteriaService {
 
-    private final AssessmentCriteriaRepository assessmentCriteriaRepository;
-    private final AssessmentCriteriaDetailFrequencyRepository assessmentCriteriaDetailFrequencyRepository;
-    private final CaseTypeAssessmentCriteriaDetailValueRepository caseTypeAssessmentCriteriaDetailValueRepository;
-    private final AssessmentCriteriaChildWeightingRepository assessmentCriteriaChildWeightingRepository;
+    private final AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+    private final AtomicReference<AssessmentCriteriaTimeline> timeline = new AtomicReference<>();
 
-    public AssessmentCriteriaEntity getAssessmentCriteria(
-            LocalDateTime assessmentDate, boolean hasPartner, boolean contraryInterest) {
+    /**
+     * The period covering the date, as shared by every request. Whether the partner weighting factor applies is
+     * decided when the assessment is calculated, see {@link
+     * uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria#weightingsFor}.
+     */
+    public AssessmentCriteria getAssessmentCriteria(LocalDateTime assessmentDate) {
         log.info("Retrieving assessment criteria for date: {}", assessmentDate);
-        AssessmentCriteriaEntity assessmentCriteriaForDate =
-                assessmentCriteriaRepository.findAssessmentCriteriaForDate(assessmentDate);
-        if (assessmentCriteriaForDate != null) {
-            // If there is no partner or there is a partner with contrary interest, set partnerWeightingFactor to null
-            if (!hasPartner || contraryInterest) {
-                assessmentCriteriaForDate.setPartnerWeightingFactor(BigDecimal.ZERO);
-            }
-            return assessmentCriteriaForDate;
-        } else {
-            log.error("No Assessment Criteria found for date {}", assessmentDate);
-            throw new AssessmentCriteriaNotFoundException(
-                    String.format("No Assessment Criteria found for date %s", assessmentDate));
-        }
+        return findAssessmentCriteriaForDate(assessmentDate);
     }
 
     public BigDecimal getFullAssessmentThreshold(String assessmentDate) {
-        AssessmentCriteriaEntity assessmentCriteriaEntity =
-                assessmentCriteriaRepository.findAssessmentCriteriaForDate(DateUtil.getLocalDateTime(assessmentDate));
-        return assessmentCriteriaEntity.getFullThreshold();
+        return findAssessmentCriteriaForDate(DateUtil.getLocalDateTime(assessmentDate)).fullThreshold();
     }
 
-    // Check for Council Tax not being submitted anything other than 'ANNUALLY'
-    void checkCriteriaDetailFrequency(AssessmentCriteriaDetailEntity criteriaDetail, Frequency frequency) {
-        Optional<AssessmentCriteriaDetailFrequencyEntity> detailFrequency =
-                assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        criteriaDetail, frequency);
-        if (detailFrequency.isEmpty()) {
-            throw new ValidationException(String.format(
-                    "Frequency: %s not valid for: %s", frequency.getCode(), criteriaDetail.getDescription()));
+    /**
+     * Every criteria period in the snapshot the current request is being served from, built once per snapshot
+     */
+    public AssessmentCriteriaBundle getAssessmentCriteriaTimeline() {
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotHolder.getSnapshot();
+        AssessmentCriteriaTimeline cached = timeline.get();
+        if (cached == null || cached.snapshot() != snapshot) {
+            cached = new AssessmentCriteriaTimeline(
+                    snapshot, AssessmentCriteriaBundleMapper.toBundle(snapshot, snapshot.getLoadedAt()));
+            timeline.set(cached);
         }
+        return cached.bundle();
+    }
+
+    /**
+     * Version of the criteria the current request is being served from
+     */
+    public String getCriteriaVersion() {
+        return assessmentCriteriaSnapshotHolder.getSnapshot().getVersion();
+    }
+
+    private AssessmentCriteria findAssessmentCriteriaForDate(LocalDateTime assessmentDate) {
+        return assessmentCriteriaSnapshotHolder
+                .getSnapshot()
+                .findForDate(assessmentDate)
+                .orElseThrow(() -> {
+                    log.error("No Assessment Criteria found for date {}", assessmentDate);
+                    return new AssessmentCriteriaNotFoundException(
+                            String.format("No Assessment Criteria found for date %s", assessmentDate));
+                });
     }
 
     public void checkAssessmentDetail(
             CaseType caseType,
             String section,
-            AssessmentCriteriaEntity assessmentCriteria,
+            AssessmentCriteria assessmentCriteria,
             ApiAssessmentDetail detail) {
-        AssessmentCriteriaDetailEntity criteriaDetail = assessmentCriteria.getAssessmentCriteriaDetails().stream()
-                .filter(d -> d.getSection().equals(section) && d.getId().equals(detail.getCriteriaDetailId()))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException(String.format(
-                        "Section: %s criteria detail item: %d does not exist for criteria id: %s",
-                        section, detail.getCriteriaDetailId(), assessmentCriteria.getId())));
-
-        // These two checks are for Council Tax not being submitted anything other than 'ANNUALLY'
-        Frequency applicantFrequency = detail.getApplicantFrequency();
-        if (applicantFrequency != null) {
-            checkCriteriaDetailFrequency(criteriaDetail, applicantFrequency);
-        }
-
-        Frequency partnerFrequency = detail.getPartnerFrequency();
-        if (partnerFrequency != null) {
-            checkCriteriaDetailFrequency(criteriaDetail, partnerFrequency);
-        }
-
-        CaseTypeAssessmentCriteriaDetailValueEntity criteriaDetailValue =
-                caseTypeAssessmentCriteriaDetailValueRepository
-                        .findByAssessmentCriteriaDetailAndCaseType(criteriaDetail, caseType)
-                        .orElse(null);
-
-        // This checks that appeal costs have been submitted as exactly £500 for applicant and £0 for partner.
-        // Think this is meant to be an 'allowance', but is currently implemented as an input.
-        if (criteriaDetailValue != null
-                && ((criteriaDetailValue.getApplicantValue().compareTo(detail.getApplicantAmount()) != 0
-                                || (applicantFrequency != null
-                                        && !applicantFrequency
-                                                .getCode()
-                                                .equals(criteriaDetailValue
-                                                        .getApplicantFrequency()
-                                                        .getCode())))
-                        || (criteriaDetailValue.getPartnerValue().compareTo(detail.getPartnerAmount()) != 0
-                                || (partnerFrequency != null
-                                        && !partnerFrequency
-                                                .getCode()
-                                                .equals(criteriaDetailValue
-                                                        .getPartnerFrequency()
-                                                        .getCode()))))) {
-            throw new ValidationException("Incorrect amount entered for: " + criteriaDetail.getDescription());
-        }
+        assessmentCriteria.calculator().checkAssessmentDetail(caseType, section, detail);
     }
 
-    public Optional<AssessmentCriteriaChildWeightingEntity> getAssessmentCriteriaChildWeightingsById(Integer id) {
-        return assessmentCriteriaChildWeightingRepository.findById(id);
+    public Optional<AssessmentCriteriaChildWeighting> getAssessmentCriteriaChildWeightingsById(Integer id) {
+        return assessmentCriteriaSnapshotHolder.getSnapshot().findChildWeightingById(id);
     }
 
-    public Optional<AssessmentCriteriaEntity> getAssessmentCriteriaById(Integer id) {
-        return assessmentCriteriaRepository.findById(id);
+    public Optional<AssessmentCriteria> getAssessmentCriteriaById(Integer id) {
+        return assessmentCriteriaSnapshotHolder.getSnapshot().findById(id);
     }
+
+    private record AssessmentCriteriaTimeline(AssessmentCriteriaSnapshot snapshot, AssessmentCriteriaBundle bundle) {}
 }
@@ -2,7 +2,7 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 
@@ -10,5 +10,5 @@ public interface AssessmentService {
     MeansAssessmentDTO execute(
             BigDecimal summariesTotal,
             MeansAssessmentRequestDTO requestDTO,
-            AssessmentCriteriaEntity assessmentCriteria);
+            AssessmentCriteria assessmentCriteria);
 }
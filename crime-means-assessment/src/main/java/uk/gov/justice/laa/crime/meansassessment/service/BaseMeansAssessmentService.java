@@ -1,17 +1,19 @@
 package uk.gov.justice.laa.crime.meansassessment.service;
 
-import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
-
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentSectionSummary;
+import uk.gov.justice.laa.crime.enums.CaseType;
 import uk.gov.justice.laa.crime.enums.Frequency;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.SectionSummariesTotals;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -19,41 +21,52 @@ import java.util.List;
 public abstract class BaseMeansAssessmentService {
 
     protected final AssessmentCriteriaService assessmentCriteriaService;
+    protected final MeansCalculationKernel calculationKernel;
 
     protected BigDecimal calculateDetailTotal(BigDecimal amount, Frequency frequency) {
-        if (amount != null && frequency != null && !BigDecimal.ZERO.equals(amount)) {
-            return setStandardScale(BigDecimal.valueOf(frequency.getWeighting()).multiply(amount));
-        } else return setStandardScale(BigDecimal.ZERO);
+        return calculationKernel.calculateDetailTotal(amount, frequency);
     }
 
     protected BigDecimal calculateSummariesTotal(
-            final MeansAssessmentRequestDTO requestDTO, final AssessmentCriteriaEntity assessmentCriteria) {
-
+            final MeansAssessmentRequestDTO requestDTO, final AssessmentCriteria assessmentCriteria) {
         List<ApiAssessmentSectionSummary> sectionSummaries = requestDTO.getSectionSummaries();
-        BigDecimal annualTotal = BigDecimal.ZERO;
+        SectionSummariesTotals totals =
+                totalSectionSummaries(requestDTO.getCaseType(), sectionSummaries, assessmentCriteria);
+        totals.applyTo(sectionSummaries);
+        return totals.annualTotal();
+    }
+
+    /**
+     * Validates and totals every line in a single pass. The summaries are only read, so the same lines can be
+     * totalled concurrently or more than once.
+     */
+    protected SectionSummariesTotals totalSectionSummaries(
+            final CaseType caseType,
+            final List<ApiAssessmentSectionSummary> sectionSummaries,
+            final AssessmentCriteria assessmentCriteria) {
+        List<SectionSummariesTotals.SectionTotals> sectionTotals = new ArrayList<>(sectionSummaries.size());
+        MeansCalculationKernel.Accumulator annualTotal = calculationKernel.newAccumulator();
         for (ApiAssessmentSectionSummary sectionSummary : sectionSummaries) {
-            BigDecimal summaryTotal;
-            BigDecimal applicantTotal;
-            BigDecimal partnerTotal;
+            MeansCalculationKernel.Accumulator summaryTotal = calculationKernel.newAccumulator();
+            MeansCalculationKernel.Accumulator applicantTotal = calculationKernel.newAccumulator();
+            MeansCalculationKernel.Accumulator partnerTotal = calculationKernel.newAccumulator();
 
-            applicantTotal = partnerTotal = BigDecimal.ZERO;
             for (ApiAssessmentDetail assessmentDetail : sectionSummary.getAssessmentDetails()) {
                 assessmentCriteriaService.checkAssessmentDetail(
-                        requestDTO.getCaseType(), sectionSummary.getSection(), assessmentCriteria, assessmentDetail);
+                        caseType, sectionSummary.getSection(), assessmentCriteria, assessmentDetail);
 
-                applicantTotal = applicantTotal.add(calculateDetailTotal(
-                        assessmentDetail.getApplicantAmount(), assessmentDetail.getApplicantFrequency()));
+                applicantTotal.addDetail(
+                        assessmentDetail.getApplicantAmount(), assessmentDetail.getApplicantFrequency());
 
-                partnerTotal = partnerTotal.add(calculateDetailTotal(
-                        assessmentDetail.getPartnerAmount(), assessmentDetail.getPartnerFrequency()));
+                partnerTotal.addDetail(assessmentDetail.getPartnerAmount(), assessmentDetail.getPartnerFrequency());
             }
-            summaryTotal = applicantTotal.add(partnerTotal);
-            sectionSummary.setApplicantAnnualTotal(applicantTotal);
-            sectionSummary.setAnnualTotal(summaryTotal);
-            sectionSummary.setPartnerAnnualTotal(partnerTotal);
+            summaryTotal.addAll(applicantTotal);
+            summaryTotal.addAll(partnerTotal);
+            sectionTotals.add(new SectionSummariesTotals.SectionTotals(
+                    applicantTotal.getTotal(), partnerTotal.getTotal(), summaryTotal.getTotal()));
 
-            annualTotal = annualTotal.add(summaryTotal);
+            annualTotal.addAll(summaryTotal);
         }
-        return annualTotal;
+        return new SectionSummariesTotals(sectionTotals, annualTotal.getTotal());
     }
 }
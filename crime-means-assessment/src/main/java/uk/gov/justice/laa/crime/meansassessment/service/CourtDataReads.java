@@ -0,0 +1,91 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Rep order reads started ahead of use during one request, so the eligibility check picks up the read
+ * {@link RepOrderPrefetcher} started instead of fetching the rep order again.
+ *
+ * <p>Each read is handed to the first caller that asks for it and then forgotten, so no two callers share a rep
+ * order and any later read goes to the Court Data API. A read that failed or was cancelled is not handed over, and
+ * any write made through {@link MaatCourtDataService} cancels the reads not yet taken.
+ */
+@Slf4j
+public class CourtDataReads {
+
+    static final String REQUEST_ATTRIBUTE = CourtDataReads.class.getName();
+
+    private final Map<Integer, Future<RepOrderDTO>> repOrders = new ConcurrentHashMap<>();
+    private final AtomicInteger savedCalls = new AtomicInteger();
+
+    /**
+     * Returns the reads started for the current request, or null outside of one.
+     */
+    public static CourtDataReads current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                        instanceof CourtDataReads current) {
+            return current;
+        }
+        return null;
+    }
+
+    /**
+     * Number of rep order reads handed to a caller, each of which would otherwise have been a Court Data API call.
+     */
+    public int getSavedCalls() {
+        return savedCalls.get();
+    }
+
+    void startRepOrderRead(Integer repId, Future<RepOrderDTO> read) {
+        Future<RepOrderDTO> replaced = repOrders.put(repId, read);
+        if (replaced != null) {
+            replaced.cancel(true);
+        }
+    }
+
+    /**
+     * Takes the read started for the rep order, waiting for it to finish if it is still in flight. Empty if no read
+     * was started, another caller has taken it, or it did not complete.
+     */
+    Optional<RepOrderDTO> takeRepOrder(Integer repId) {
+        Future<RepOrderDTO> read = repOrders.remove(repId);
+        if (read == null) {
+            return Optional.empty();
+        }
+        try {
+            RepOrderDTO repOrder = read.get();
+            savedCalls.incrementAndGet();
+            return Optional.ofNullable(repOrder);
+        } catch (InterruptedException e) {
+            read.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            log.debug("Rep order {} read ahead did not complete, reading it again", repId, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Cancels and forgets every read not yet taken.
+     */
+    void clear() {
+        repOrders.values().removeIf(read -> {
+            read.cancel(true);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Gives each request its own {@link CourtDataReads} and, once it completes, tags the request's span with the number
+ * of Court Data API calls saved by reads started ahead of use and cancels any read that was not taken.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourtDataReadsInterceptor implements HandlerInterceptor {
+
+    public static final String SAVED_CALLS_TAG = "court.data.reads.saved";
+
+    private final ObjectProvider<Tracer> tracer;
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        request.setAttribute(CourtDataReads.REQUEST_ATTRIBUTE, new CourtDataReads());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            Exception ex) {
+        if (request.getAttribute(CourtDataReads.REQUEST_ATTRIBUTE) instanceof CourtDataReads reads) {
+            int savedCalls = reads.getSavedCalls();
+            log.debug("Court Data API calls saved by reads started ahead of use: {}", savedCalls);
+            tracer.ifAvailable(current -> {
+                Span span = current.currentSpan();
+                if (span != null) {
+                    span.tag(SAVED_CALLS_TAG, String.valueOf(savedCalls));
+                }
+            });
+            // However the request ended, a read nobody took must not outlive it holding the request's context
+            reads.clear();
+        }
+    }
+}
@@ -9,7 +9,9 @@ import uk.gov.justice.laa.crime.enums.CurrentStatus;
 import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
 
 import java.math.BigDecimal;
 
@@ -21,12 +23,13 @@ import org.springframework.stereotype.Service;
 public class FullMeansAssessmentService implements AssessmentService {
 
     private final AssessmentCriteriaChildWeightingService childWeightingService;
+    private final MeansCalculationKernel calculationKernel;
 
     @Override
     public MeansAssessmentDTO execute(
             BigDecimal expenditureTotal,
             MeansAssessmentRequestDTO requestDTO,
-            AssessmentCriteriaEntity assessmentCriteria) {
+            AssessmentCriteria assessmentCriteria) {
         log.info("Create full means assessment - Start");
         CurrentStatus status = requestDTO.getAssessmentStatus();
         BigDecimal totalAggregatedIncome = requestDTO.getInitTotalAggregatedIncome();
@@ -56,28 +59,22 @@ public class FullMeansAssessmentService implements AssessmentService {
     }
 
     BigDecimal getAdjustedLivingAllowance(
-            MeansAssessmentRequestDTO requestDTO, AssessmentCriteriaEntity assessmentCriteria) {
-        BigDecimal totalChildWeighting = setStandardScale(
-                childWeightingService.getTotalChildWeighting(requestDTO.getChildWeightings(), assessmentCriteria));
+            MeansAssessmentRequestDTO requestDTO, AssessmentCriteria assessmentCriteria) {
+        BigDecimal totalChildWeighting =
+                childWeightingService.getTotalChildWeighting(requestDTO.getChildWeightings(), assessmentCriteria);
 
-        return setStandardScale(assessmentCriteria.getLivingAllowance())
-                .multiply(setStandardScale(assessmentCriteria.getApplicantWeightingFactor())
-                        .add(setStandardScale(assessmentCriteria.getPartnerWeightingFactor()))
-                        .add(totalChildWeighting));
+        ScaledAssessmentCriteria.Weightings weightings = assessmentCriteria
+                .calculator()
+                .weightingsFor(requestDTO.getHasPartner(), requestDTO.getPartnerContraryInterest());
+        return calculationKernel.calculateAdjustedLivingAllowance(weightings, totalChildWeighting);
     }
 
     FullAssessmentResult getResult(
             BigDecimal disposableIncome,
             MeansAssessmentRequestDTO requestDTO,
-            AssessmentCriteriaEntity assessmentCriteria) {
-        if (isCrownCourtCase(requestDTO.getCaseType(), requestDTO.getMagCourtOutcome())
-                && requestDTO.isEligibilityCheckRequired()
-                && disposableIncome.compareTo(assessmentCriteria.getEligibilityThreshold()) >= 0) {
-            return FullAssessmentResult.INEL;
-        } else if (disposableIncome.compareTo(assessmentCriteria.getFullThreshold()) <= 0) {
-            return FullAssessmentResult.PASS;
-        } else {
-            return FullAssessmentResult.FAIL;
-        }
+            AssessmentCriteria assessmentCriteria) {
+        boolean eligibilityCheckRequired = isCrownCourtCase(requestDTO.getCaseType(), requestDTO.getMagCourtOutcome())
+                && requestDTO.isEligibilityCheckRequired();
+        return assessmentCriteria.calculator().getFullAssessmentResult(disposableIncome, eligibilityCheckRequired);
     }
 }
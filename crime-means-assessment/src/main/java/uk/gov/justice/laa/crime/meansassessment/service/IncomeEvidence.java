@@ -0,0 +1,20 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.IncomeEvidenceEntity;
+
+/**
+ * An income evidence type from the catalogue, detached from its entity so the catalogue can hand it to any number of
+ * callers without one of them changing what the others see.
+ */
+public record IncomeEvidence(
+        String id, String description, String letterDescription, String welshLetterDescription, String adhoc) {
+
+    static IncomeEvidence of(IncomeEvidenceEntity entity) {
+        return new IncomeEvidence(
+                entity.getId(),
+                entity.getDescription(),
+                entity.getLetterDescription(),
+                entity.getWelshLetterDescription(),
+                entity.getAdhoc());
+    }
+}
@@ -2,21 +2,92 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.IncomeEvidenceEntity;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.IncomeEvidenceRepository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Serves the income evidence catalogue from memory. The table is small and effectively immutable, so it is read
+ * whole at startup and re-read periodically rather than queried per evidence code. Evidence types are handed out as
+ * immutable {@link IncomeEvidence} values.
+ */
 @Service
+@Profile("!stateless")
 @RequiredArgsConstructor
 @Slf4j
 public class IncomeEvidenceService {
 
     private final IncomeEvidenceRepository incomeEvidenceRepository;
 
-    public Optional<IncomeEvidenceEntity> getIncomeEvidenceById(String id) {
-        return incomeEvidenceRepository.findById(id);
+    private volatile Map<String, IncomeEvidence> incomeEvidenceById;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        getCatalogue();
+    }
+
+    @Scheduled(
+            initialDelayString = "${income-evidence.refresh.interval}",
+            fixedDelayString = "${income-evidence.refresh.interval}")
+    public void refresh() {
+        try {
+            incomeEvidenceById = loadCatalogue();
+        } catch (RuntimeException e) {
+            // Keep serving the current catalogue; the next poll will try again
+            log.warn("Unable to refresh the income evidence catalogue", e);
+        }
+    }
+
+    public Optional<IncomeEvidence> getIncomeEvidenceById(String id) {
+        return Optional.ofNullable(id).map(getCatalogue()::get);
+    }
+
+    /**
+     * Resolves many evidence codes at once; codes that are not in the catalogue are left out of the result.
+     */
+    public Map<String, IncomeEvidence> getIncomeEvidenceByIds(Collection<String> ids) {
+        Map<String, IncomeEvidence> catalogue = getCatalogue();
+        Map<String, IncomeEvidence> incomeEvidence = new LinkedHashMap<>();
+        for (String id : ids) {
+            IncomeEvidence evidence = id != null ? catalogue.get(id) : null;
+            if (evidence != null) {
+                incomeEvidence.put(id, evidence);
+            }
+        }
+        return Collections.unmodifiableMap(incomeEvidence);
+    }
+
+    private Map<String, IncomeEvidence> getCatalogue() {
+        Map<String, IncomeEvidence> catalogue = incomeEvidenceById;
+        if (catalogue == null) {
+            synchronized (this) {
+                catalogue = incomeEvidenceById;
+                if (catalogue == null) {
+                    catalogue = loadCatalogue();
+                    incomeEvidenceById = catalogue;
+                }
+            }
+        }
+        return catalogue;
+    }
+
+    private Map<String, IncomeEvidence> loadCatalogue() {
+        Map<String, IncomeEvidence> catalogue = new HashMap<>();
+        incomeEvidenceRepository
+                .findAll()
+                .forEach(incomeEvidence -> catalogue.put(incomeEvidence.getId(), IncomeEvidence.of(incomeEvidence)));
+        log.info("Loaded {} income evidence types", catalogue.size());
+        return Map.copyOf(catalogue);
     }
 }
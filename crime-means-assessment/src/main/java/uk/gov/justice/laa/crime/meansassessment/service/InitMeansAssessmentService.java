@@ -1,7 +1,5 @@
 package uk.gov.justice.laa.crime.meansassessment.service;
 
-import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.enums.CurrentStatus;
@@ -9,10 +7,11 @@ import uk.gov.justice.laa.crime.enums.InitAssessmentResult;
 import uk.gov.justice.laa.crime.enums.NewWorkReason;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 import org.springframework.stereotype.Service;
 
@@ -22,10 +21,11 @@ import org.springframework.stereotype.Service;
 public class InitMeansAssessmentService implements AssessmentService {
 
     private final AssessmentCriteriaChildWeightingService childWeightingService;
+    private final MeansCalculationKernel calculationKernel;
 
     @Override
     public MeansAssessmentDTO execute(
-            BigDecimal annualTotal, MeansAssessmentRequestDTO requestDTO, AssessmentCriteriaEntity assessmentCriteria) {
+            BigDecimal annualTotal, MeansAssessmentRequestDTO requestDTO, AssessmentCriteria assessmentCriteria) {
         log.info("Create initial means assessment - Start");
         BigDecimal adjustedIncomeValue = getAdjustedIncome(requestDTO, assessmentCriteria, annualTotal);
         CurrentStatus status = requestDTO.getAssessmentStatus();
@@ -42,36 +42,21 @@ public class InitMeansAssessmentService implements AssessmentService {
     }
 
     BigDecimal getAdjustedIncome(
-            MeansAssessmentRequestDTO requestDTO, AssessmentCriteriaEntity assessmentCriteria, BigDecimal annualTotal) {
-        BigDecimal totalChildWeighting = setStandardScale(
-                childWeightingService.getTotalChildWeighting(requestDTO.getChildWeightings(), assessmentCriteria));
+            MeansAssessmentRequestDTO requestDTO, AssessmentCriteria assessmentCriteria, BigDecimal annualTotal) {
+        BigDecimal totalChildWeighting =
+                childWeightingService.getTotalChildWeighting(requestDTO.getChildWeightings(), assessmentCriteria);
 
         if (BigDecimal.ZERO.compareTo(annualTotal) <= 0) {
-            return setStandardScale(annualTotal)
-                    .divide(
-                            setStandardScale(assessmentCriteria.getApplicantWeightingFactor())
-                                    .add(setStandardScale(assessmentCriteria.getPartnerWeightingFactor()))
-                                    .add(totalChildWeighting),
-                            RoundingMode.HALF_UP);
+            ScaledAssessmentCriteria.Weightings weightings = assessmentCriteria
+                    .calculator()
+                    .weightingsFor(requestDTO.getHasPartner(), requestDTO.getPartnerContraryInterest());
+            return calculationKernel.calculateAdjustedIncome(annualTotal, weightings, totalChildWeighting);
         }
         return BigDecimal.ZERO;
     }
 
     InitAssessmentResult getResult(
-            BigDecimal adjustedIncomeValue, AssessmentCriteriaEntity assessmentCriteria, NewWorkReason newWorkReason) {
-        BigDecimal lowerThreshold = assessmentCriteria.getInitialLowerThreshold();
-        BigDecimal upperThreshold = assessmentCriteria.getInitialUpperThreshold();
-        if (adjustedIncomeValue.compareTo(lowerThreshold) <= 0) {
-            return InitAssessmentResult.PASS;
-        } else if (adjustedIncomeValue.compareTo(upperThreshold) >= 0) {
-            // Comment in PL/SQL suggests this should also apply to crown court cases
-            if (newWorkReason == NewWorkReason.HR) {
-                return InitAssessmentResult.HARDSHIP;
-            } else {
-                return InitAssessmentResult.FAIL;
-            }
-        } else {
-            return InitAssessmentResult.FULL;
-        }
+            BigDecimal adjustedIncomeValue, AssessmentCriteria assessmentCriteria, NewWorkReason newWorkReason) {
+        return assessmentCriteria.calculator().getInitAssessmentResult(adjustedIncomeValue, newWorkReason);
     }
 }
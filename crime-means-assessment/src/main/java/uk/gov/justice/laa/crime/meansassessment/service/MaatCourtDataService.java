@@ -14,6 +14,7 @@ import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.PassportAssess
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
@@ -36,6 +37,7 @@ public class MaatCourtDataService {
             response = maatCourtDataApiClient.updateFinancialAssessment(assessment);
         }
         log.debug(String.format(RESPONSE_STRING, response));
+        forgetReads();
         return response;
     }
 
@@ -43,6 +45,7 @@ public class MaatCourtDataService {
         log.debug("Request to update completion date detail : {}", dateCompletionRequestDTO);
         RepOrderDTO response = maatCourtDataApiClient.updateCompletionDate(dateCompletionRequestDTO);
         log.debug(String.format(RESPONSE_STRING, response));
+        forgetReads();
         return response;
     }
 
@@ -71,6 +74,20 @@ public class MaatCourtDataService {
     }
 
     public RepOrderDTO getRepOrder(Integer repId) {
+        CourtDataReads reads = CourtDataReads.current();
+        if (reads != null && repId != null) {
+            Optional<RepOrderDTO> repOrder = reads.takeRepOrder(repId);
+            if (repOrder.isPresent()) {
+                return repOrder.get();
+            }
+        }
+        return fetchRepOrder(repId);
+    }
+
+    /**
+     * Reads the rep order from the Court Data API, without picking up a read started ahead of time.
+     */
+    RepOrderDTO fetchRepOrder(Integer repId) {
         RepOrderDTO response = maatCourtDataApiClient.getRepOrder(repId);
         log.debug(String.format(RESPONSE_STRING, response));
         return response;
@@ -78,5 +95,13 @@ public class MaatCourtDataService {
 
     public void rollbackFinancialAssessment(Integer financialAssessmentId, Map<String, Object> updateFields) {
         maatCourtDataApiClient.patchFinancialAssessment(updateFields, financialAssessmentId);
+        forgetReads();
+    }
+
+    private void forgetReads() {
+        CourtDataReads reads = CourtDataReads.current();
+        if (reads != null) {
+            reads.clear();
+        }
     }
 }
@@ -26,9 +26,10 @@ import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAsses
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDetails;
 import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentProcessingException;
 import uk.gov.justice.laa.crime.meansassessment.factory.MeansAssessmentServiceFactory;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaChildWeighting;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
 import uk.gov.justice.laa.crime.meansassessment.util.SortUtils;
 
 import java.math.BigDecimal;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -55,6 +57,7 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
     private final MeansAssessmentSectionSummaryBuilder meansAssessmentBuilder;
     private final AssessmentCriteriaDetailService assessmentCriteriaDetailService;
     private final EligibilityChecker crownCourtEligibilityService;
+    private final ObjectProvider<IncomeEvidenceService> incomeEvidenceService;
 
     public MeansAssessmentService(
             MaatCourtDataService maatCourtDataService,
@@ -66,9 +69,11 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
             AssessmentCompletionService assessmentCompletionService,
             MeansAssessmentSectionSummaryBuilder meansAssessmentBuilder,
             AssessmentCriteriaDetailService assessmentCriteriaDetailService,
-            EligibilityChecker crownCourtEligibilityService) {
+            EligibilityChecker crownCourtEligibilityService,
+            ObjectProvider<IncomeEvidenceService> incomeEvidenceService,
+            MeansCalculationKernel calculationKernel) {
 
-        super(assessmentCriteriaService);
+        super(assessmentCriteriaService, calculationKernel);
         this.maatCourtDataService = maatCourtDataService;
         this.assessmentCriteriaService = assessmentCriteriaService;
         this.responseBuilder = responseBuilder;
@@ -79,6 +84,7 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
         this.meansAssessmentBuilder = meansAssessmentBuilder;
         this.assessmentCriteriaDetailService = assessmentCriteriaDetailService;
         this.crownCourtEligibilityService = crownCourtEligibilityService;
+        this.incomeEvidenceService = incomeEvidenceService;
     }
 
     public ApiMeansAssessmentResponse doAssessment(MeansAssessmentRequestDTO requestDTO, RequestType requestType) {
@@ -91,8 +97,7 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
 
             AssessmentService assessmentService = meansAssessmentServiceFactory.getService(assessmentType);
 
-            AssessmentCriteriaEntity assessmentCriteria = assessmentCriteriaService.getAssessmentCriteria(
-                    assessmentDate, requestDTO.getHasPartner(), requestDTO.getPartnerContraryInterest());
+            AssessmentCriteria assessmentCriteria = assessmentCriteriaService.getAssessmentCriteria(assessmentDate);
 
             BigDecimal summariesTotal = calculateSummariesTotal(requestDTO, assessmentCriteria);
 
@@ -170,11 +175,12 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
         ApiIncomeEvidenceSummary apiIncomeEvidenceSummary = getApiIncomeEvidenceSummary(financialAssessmentDTO);
         if (!finAssIncomeEvidenceDTOList.isEmpty()) {
             sortFinAssIncomeEvidenceSummary(finAssIncomeEvidenceDTOList);
+            Map<String, IncomeEvidence> incomeEvidenceTypes = getIncomeEvidenceTypes(finAssIncomeEvidenceDTOList);
             finAssIncomeEvidenceDTOList.forEach(finAssIncomeEvidenceDTO -> {
                 ApiIncomeEvidence apiIncomeEvidence = new ApiIncomeEvidence()
                         .withId(finAssIncomeEvidenceDTO.getId())
                         .withApplicantId(finAssIncomeEvidenceDTO.getApplicant().getId())
-                        .withAdhoc(finAssIncomeEvidenceDTO.getAdhoc())
+                        .withAdhoc(getAdhoc(finAssIncomeEvidenceDTO, incomeEvidenceTypes))
                         .withMandatory(finAssIncomeEvidenceDTO.getMandatory())
                         .withOtherText(finAssIncomeEvidenceDTO.getOtherText())
                         .withDateModified(finAssIncomeEvidenceDTO.getDateModified())
@@ -186,6 +192,27 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
         apiGetMeansAssessmentResponse.setIncomeEvidenceSummary(apiIncomeEvidenceSummary);
     }
 
+    // One catalogue lookup for every evidence row; there is no catalogue under the stateless profile
+    private Map<String, IncomeEvidence> getIncomeEvidenceTypes(List<FinAssIncomeEvidenceDTO> finAssIncomeEvidences) {
+        IncomeEvidenceService catalogue = incomeEvidenceService.getIfAvailable();
+        if (catalogue == null) {
+            return Map.of();
+        }
+        return catalogue.getIncomeEvidenceByIds(finAssIncomeEvidences.stream()
+                .map(FinAssIncomeEvidenceDTO::getIncomeEvidence)
+                .toList());
+    }
+
+    // Evidence recorded without an ad hoc flag takes the flag of its evidence type
+    private static String getAdhoc(
+            FinAssIncomeEvidenceDTO finAssIncomeEvidenceDTO, Map<String, IncomeEvidence> incomeEvidenceTypes) {
+        if (finAssIncomeEvidenceDTO.getAdhoc() != null) {
+            return finAssIncomeEvidenceDTO.getAdhoc();
+        }
+        IncomeEvidence incomeEvidenceType = incomeEvidenceTypes.get(finAssIncomeEvidenceDTO.getIncomeEvidence());
+        return incomeEvidenceType != null ? incomeEvidenceType.adhoc() : null;
+    }
+
     private static ApiIncomeEvidenceSummary getApiIncomeEvidenceSummary(FinancialAssessmentDTO financialAssessmentDTO) {
         return new ApiIncomeEvidenceSummary()
                 .withEvidenceDueDate(financialAssessmentDTO.getIncomeEvidenceDueDate())
@@ -210,19 +237,18 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
             ApiInitialMeansAssessment assessment, FinancialAssessmentDTO financialAssessmentDTO) {
         List<ApiAssessmentChildWeighting> apiAssessmentChildWeightings = new ArrayList<>();
         financialAssessmentDTO.getChildWeightings().forEach(childWeightings -> {
-            Optional<AssessmentCriteriaChildWeightingEntity> criteriaChildWeighting =
+            Optional<AssessmentCriteriaChildWeighting> criteriaChildWeighting =
                     assessmentCriteriaService.getAssessmentCriteriaChildWeightingsById(
                             childWeightings.getChildWeightingId());
             if (criteriaChildWeighting.isPresent()) {
-                AssessmentCriteriaChildWeightingEntity assessmentCriteriaChildWeightingEntity =
-                        criteriaChildWeighting.get();
+                AssessmentCriteriaChildWeighting assessmentCriteriaChildWeighting = criteriaChildWeighting.get();
                 ApiAssessmentChildWeighting apiAssessmentChildWeighting = new ApiAssessmentChildWeighting()
                         .withId(childWeightings.getId())
                         .withChildWeightingId(childWeightings.getChildWeightingId())
                         .withNoOfChildren(childWeightings.getNoOfChildren())
-                        .withWeightingFactor(assessmentCriteriaChildWeightingEntity.getWeightingFactor())
-                        .withLowerAgeRange(assessmentCriteriaChildWeightingEntity.getLowerAgeRange())
-                        .withUpperAgeRange(assessmentCriteriaChildWeightingEntity.getUpperAgeRange());
+                        .withWeightingFactor(assessmentCriteriaChildWeighting.weightingFactor())
+                        .withLowerAgeRange(assessmentCriteriaChildWeighting.lowerAgeRange())
+                        .withUpperAgeRange(assessmentCriteriaChildWeighting.upperAgeRange());
                 apiAssessmentChildWeightings.add(apiAssessmentChildWeighting);
             }
         });
@@ -240,13 +266,13 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
 
         List<ApiAssessmentSectionSummary> assessmentSectionSummaryList =
                 getAssessmentSectionSummary(financialAssessmentDTO);
-        Optional<AssessmentCriteriaEntity> initAssessmentCriteria =
+        Optional<AssessmentCriteria> initAssessmentCriteria =
                 assessmentCriteriaService.getAssessmentCriteriaById(financialAssessmentDTO.getInitialAscrId());
         meansAssessmentBuilder.buildInitialAssessment(
                 assessmentResponse, financialAssessmentDTO, assessmentSectionSummaryList, initAssessmentCriteria);
 
         if (AssessmentType.FULL.equals(AssessmentType.getFrom(financialAssessmentDTO.getAssessmentType()))) {
-            Optional<AssessmentCriteriaEntity> fullAssessmentCriteria =
+            Optional<AssessmentCriteria> fullAssessmentCriteria =
                     assessmentCriteriaService.getAssessmentCriteriaById(financialAssessmentDTO.getFullAscrId());
 
             meansAssessmentBuilder.buildFullAssessment(
@@ -279,10 +305,10 @@ public class MeansAssessmentService extends BaseMeansAssessmentService {
     protected List<AssessmentDTO> getAssessmentDTO(List<FinancialAssessmentDetails> financialAssessmentDetailsList) {
         List<AssessmentDTO> assessmentDTOList = new ArrayList<>();
         financialAssessmentDetailsList.forEach(e -> {
-            Optional<AssessmentCriteriaDetailEntity> assessmentCriteriaDetailEntity =
+            Optional<AssessmentCriteriaDetail> assessmentCriteriaDetail =
                     assessmentCriteriaDetailService.getAssessmentCriteriaDetailById(e.getCriteriaDetailId());
-            assessmentCriteriaDetailEntity.ifPresent(criteriaDetailEntity ->
-                    assessmentDTOList.add(meansAssessmentBuilder.buildAssessmentDTO(criteriaDetailEntity, e)));
+            assessmentCriteriaDetail.ifPresent(criteriaDetail ->
+                    assessmentDTOList.add(meansAssessmentBuilder.buildAssessmentDTO(criteriaDetail, e)));
         });
         return assessmentDTOList;
     }
@@ -0,0 +1,40 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import static uk.gov.justice.laa.crime.meansassessment.config.CourtDataExecutorConfiguration.COURT_DATA_EXECUTOR;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.enums.AssessmentType;
+import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts reading the rep order for a full assessment as soon as the request is built, so the read overlaps with
+ * validation and criteria resolution instead of starting once the eligibility check needs it. The read is left
+ * with the request's {@link CourtDataReads}, where the eligibility check takes it; outside a request there is
+ * nowhere to leave it, so nothing is prefetched. A read still running or not taken when the request completes is
+ * cancelled by {@link CourtDataReadsInterceptor}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepOrderPrefetcher {
+
+    private final MaatCourtDataService maatCourtDataService;
+
+    @Qualifier(COURT_DATA_EXECUTOR)
+    private final AsyncTaskExecutor courtDataExecutor;
+
+    public void prefetch(MeansAssessmentRequestDTO requestDTO) {
+        Integer repId = requestDTO.getRepId();
+        CourtDataReads reads = CourtDataReads.current();
+        if (!AssessmentType.FULL.equals(requestDTO.getAssessmentType()) || repId == null || reads == null) {
+            return;
+        }
+        log.debug("Prefetching rep order {}", repId);
+        reads.startRepOrderRead(repId, courtDataExecutor.submit(() -> maatCourtDataService.fetchRepOrder(repId)));
+    }
+}
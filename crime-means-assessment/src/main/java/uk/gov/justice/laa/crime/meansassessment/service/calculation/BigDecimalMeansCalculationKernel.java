@@ -0,0 +1,70 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
+
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+        prefix = "means-assessment.calculation",
+        name = "kernel",
+        havingValue = "big-decimal",
+        matchIfMissing = true)
+public class BigDecimalMeansCalculationKernel implements MeansCalculationKernel {
+
+    @Override
+    public BigDecimal calculateDetailTotal(BigDecimal amount, Frequency frequency) {
+        if (amount != null && frequency != null && !BigDecimal.ZERO.equals(amount)) {
+            return setStandardScale(BigDecimal.valueOf(frequency.getWeighting()).multiply(amount));
+        } else return setStandardScale(BigDecimal.ZERO);
+    }
+
+    @Override
+    public Accumulator newAccumulator() {
+        return new BigDecimalAccumulator();
+    }
+
+    @Override
+    public BigDecimal calculateAdjustedIncome(
+            BigDecimal annualTotal, ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting) {
+        return setStandardScale(annualTotal)
+                .divide(
+                        weightings.householdWeighting().add(setStandardScale(totalChildWeighting)),
+                        RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public BigDecimal calculateAdjustedLivingAllowance(
+            ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting) {
+        return weightings
+                .householdLivingAllowance()
+                .add(weightings.livingAllowance().multiply(setStandardScale(totalChildWeighting)));
+    }
+
+    private final class BigDecimalAccumulator implements Accumulator {
+
+        private BigDecimal total = BigDecimal.ZERO;
+
+        @Override
+        public void addDetail(BigDecimal amount, Frequency frequency) {
+            total = total.add(calculateDetailTotal(amount, frequency));
+        }
+
+        @Override
+        public void addAll(Accumulator other) {
+            total = total.add(other.getTotal());
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            return total;
+        }
+    }
+}
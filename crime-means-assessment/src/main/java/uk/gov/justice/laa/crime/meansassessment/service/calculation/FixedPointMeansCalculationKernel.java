@@ -0,0 +1,164 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
+
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates in whole pence held as {@code long}s, with weighting factors held as hundredths.
+ *
+ * <p>Inputs are brought to two decimal places with HALF_UP first, just as the reference kernel does through
+ * {@code RoundingUtils.setStandardScale}. After that, sums and products of pence are exact. The only remaining
+ * rounding is the adjusted income division, which rounds HALF_UP: a remainder of at least half the divisor moves
+ * the quotient away from zero. Amounts finer than a penny, and any intermediate that would overflow a long, go to
+ * {@link BigDecimalMeansCalculationKernel}, so results always equal the reference to the last digit and scale.
+ */
+@Component
+@ConditionalOnProperty(prefix = "means-assessment.calculation", name = "kernel", havingValue = "fixed-point")
+public class FixedPointMeansCalculationKernel implements MeansCalculationKernel {
+
+    private static final int STANDARD_SCALE = 2;
+    private static final int LIVING_ALLOWANCE_SCALE = STANDARD_SCALE * 2;
+    private static final long ONE_HUNDRED = 100L;
+    // Hundredths of any value with no more integer digits than this fit comfortably in a long
+    private static final int MAX_EXACT_INTEGER_DIGITS = 16;
+
+    private final MeansCalculationKernel reference = new BigDecimalMeansCalculationKernel();
+
+    @Override
+    public BigDecimal calculateDetailTotal(BigDecimal amount, Frequency frequency) {
+        try {
+            return BigDecimal.valueOf(getDetailTotalInPence(amount, frequency), STANDARD_SCALE);
+        } catch (ArithmeticException e) {
+            return reference.calculateDetailTotal(amount, frequency);
+        }
+    }
+
+    @Override
+    public Accumulator newAccumulator() {
+        return new FixedPointAccumulator();
+    }
+
+    @Override
+    public BigDecimal calculateAdjustedIncome(
+            BigDecimal annualTotal, ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting) {
+        try {
+            long dividend = Math.multiplyExact(toHundredths(annualTotal), ONE_HUNDRED);
+            long divisor = getTotalWeighting(weightings, totalChildWeighting);
+            return BigDecimal.valueOf(divideHalfUp(dividend, divisor), STANDARD_SCALE);
+        } catch (ArithmeticException e) {
+            // Also covers a zero weighting, so the reference raises the same exception it always has
+            return reference.calculateAdjustedIncome(annualTotal, weightings, totalChildWeighting);
+        }
+    }
+
+    @Override
+    public BigDecimal calculateAdjustedLivingAllowance(
+            ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting) {
+        try {
+            // Re-multiplying in longs is cheaper than converting the pre-multiplied household allowance
+            long weighting = getTotalWeighting(weightings, totalChildWeighting);
+            return BigDecimal.valueOf(
+                    Math.multiplyExact(toHundredths(weightings.livingAllowance()), weighting),
+                    LIVING_ALLOWANCE_SCALE);
+        } catch (ArithmeticException e) {
+            return reference.calculateAdjustedLivingAllowance(weightings, totalChildWeighting);
+        }
+    }
+
+    private long getDetailTotalInPence(BigDecimal amount, Frequency frequency) {
+        if (amount == null || frequency == null || amount.signum() == 0) {
+            return 0L;
+        }
+        if (isExactInHundredths(amount)) {
+            return Math.multiplyExact(amount.movePointRight(STANDARD_SCALE).longValueExact(), frequency.getWeighting());
+        }
+        // Sub-penny amounts are rounded after weighting, not before
+        return toHundredths(reference.calculateDetailTotal(amount, frequency));
+    }
+
+    private static long getTotalWeighting(
+            ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting) {
+        return Math.addExact(toHundredths(weightings.householdWeighting()), toHundredths(totalChildWeighting));
+    }
+
+    /**
+     * The value rounded HALF_UP to two decimal places, as a count of hundredths.
+     */
+    static long toHundredths(BigDecimal value) {
+        if (isExactInHundredths(value)) {
+            return value.movePointRight(STANDARD_SCALE).longValueExact();
+        }
+        return setStandardScale(value).unscaledValue().longValueExact();
+    }
+
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.absExact(dividend % divisor);
+        if (remainder != 0 && remainder >= Math.absExact(divisor) - remainder) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private static boolean isExactInHundredths(BigDecimal value) {
+        int scale = value.scale();
+        return scale >= 0 && scale <= STANDARD_SCALE && value.precision() - scale <= MAX_EXACT_INTEGER_DIGITS;
+    }
+
+    private final class FixedPointAccumulator implements Accumulator {
+
+        private long totalInPence;
+        private boolean empty = true;
+        // Takes over from totalInPence once the running total no longer fits in a long
+        private BigDecimal overflow;
+
+        @Override
+        public void addDetail(BigDecimal amount, Frequency frequency) {
+            if (overflow == null) {
+                try {
+                    totalInPence = Math.addExact(totalInPence, getDetailTotalInPence(amount, frequency));
+                    empty = false;
+                    return;
+                } catch (ArithmeticException e) {
+                    overflow = getTotal();
+                }
+            }
+            overflow = overflow.add(reference.calculateDetailTotal(amount, frequency));
+            empty = false;
+        }
+
+        @Override
+        public void addAll(Accumulator other) {
+            FixedPointAccumulator that = (FixedPointAccumulator) other;
+            if (that.empty) {
+                return;
+            }
+            if (overflow == null && that.overflow == null) {
+                try {
+                    totalInPence = Math.addExact(totalInPence, that.totalInPence);
+                    empty = false;
+                    return;
+                } catch (ArithmeticException e) {
+                    // Carry on in BigDecimal below
+                }
+            }
+            overflow = getTotal().add(that.getTotal());
+            empty = false;
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            if (empty) {
+                return BigDecimal.ZERO;
+            }
+            return overflow != null ? overflow : BigDecimal.valueOf(totalInPence, STANDARD_SCALE);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+
+/**
+ * The arithmetic behind a means assessment. {@link BigDecimalMeansCalculationKernel} is the reference behaviour;
+ * any other implementation must return results equal to it in both value and scale. The kernel in use is chosen
+ * with {@code means-assessment.calculation.kernel}.
+ */
+public interface MeansCalculationKernel {
+
+    /**
+     * Annualises a single amount, rounded HALF_UP to two decimal places.
+     */
+    BigDecimal calculateDetailTotal(BigDecimal amount, Frequency frequency);
+
+    Accumulator newAccumulator();
+
+    /**
+     * The annual total divided by the household and child weightings together, rounded HALF_UP to two decimal
+     * places.
+     */
+    BigDecimal calculateAdjustedIncome(
+            BigDecimal annualTotal, ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting);
+
+    /**
+     * The living allowance multiplied by the household and child weightings together; the result is not rounded.
+     */
+    BigDecimal calculateAdjustedLivingAllowance(
+            ScaledAssessmentCriteria.Weightings weightings, BigDecimal totalChildWeighting);
+
+    /**
+     * A running total of annualised amounts. An accumulator nothing has been added to totals to
+     * {@link BigDecimal#ZERO}, just as an untouched BigDecimal sum would. Accumulators can only be combined with
+     * others from the same kernel.
+     */
+    interface Accumulator {
+
+        void addDetail(BigDecimal amount, Frequency frequency);
+
+        void addAll(Accumulator other);
+
+        BigDecimal getTotal();
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentSectionSummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Annual totals of a list of section summaries, with one entry per summary in the same order.
+ */
+public record SectionSummariesTotals(List<SectionTotals> sections, BigDecimal annualTotal) {
+
+    public SectionSummariesTotals {
+        sections = List.copyOf(sections);
+    }
+
+    /**
+     * Copies the totals onto the summaries they were calculated from, for callers that return the summaries.
+     */
+    public void applyTo(List<ApiAssessmentSectionSummary> sectionSummaries) {
+        for (int i = 0; i < sections.size(); i++) {
+            SectionTotals totals = sections.get(i);
+            ApiAssessmentSectionSummary sectionSummary = sectionSummaries.get(i);
+            sectionSummary.setApplicantAnnualTotal(totals.applicantAnnualTotal());
+            sectionSummary.setAnnualTotal(totals.annualTotal());
+            sectionSummary.setPartnerAnnualTotal(totals.partnerAnnualTotal());
+        }
+    }
+
+    public record SectionTotals(
+            BigDecimal applicantAnnualTotal, BigDecimal partnerAnnualTotal, BigDecimal annualTotal) {}
+}
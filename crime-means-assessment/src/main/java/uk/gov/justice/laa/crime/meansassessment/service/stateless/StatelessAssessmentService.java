@@ -3,7 +3,6 @@ package uk.gov.justice.laa.crime.meansassessment.service.stateless;
 import static uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessDataAdapter.mapChildGroupings;
 
 import jakarta.validation.constraints.NotNull;
-import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentSectionSummary;
 import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
 import uk.gov.justice.laa.crime.enums.AssessmentType;
 import uk.gov.justice.laa.crime.enums.CaseType;
@@ -21,7 +20,8 @@ import uk.gov.justice.laa.crime.meansassessment.factory.MeansAssessmentServiceFa
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
 import uk.gov.justice.laa.crime.meansassessment.service.BaseMeansAssessmentService;
 import uk.gov.justice.laa.crime.meansassessment.service.FullAssessmentAvailabilityService;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -38,9 +38,10 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
     public StatelessAssessmentService(
             AssessmentCriteriaService assessmentCriteriaService,
             MeansAssessmentServiceFactory meansAssessmentServiceFactory,
-            FullAssessmentAvailabilityService fullAssessmentAvailabilityService) {
+            FullAssessmentAvailabilityService fullAssessmentAvailabilityService,
+            MeansCalculationKernel calculationKernel) {
 
-        super(assessmentCriteriaService);
+        super(assessmentCriteriaService, calculationKernel);
         this.meansAssessmentServiceFactory = meansAssessmentServiceFactory;
         this.fullAssessmentAvailabilityService = fullAssessmentAvailabilityService;
     }
@@ -50,11 +51,12 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
             Map<AgeRange, Integer> childGroupings,
             List<Income> income,
             List<Outgoing> outgoings) {
-        final var assessmentCriteriaEntity = assessmentCriteriaService.getAssessmentCriteria(
-                assessment.getAssessmentDate(), assessment.getHasPartner(), false);
+        final var assessmentCriteria = assessmentCriteriaService.getAssessmentCriteria(assessment.getAssessmentDate());
+        final boolean hasPartner = assessment.getHasPartner();
         var initialAnswer = initialResult(
                 childGroupings,
-                assessmentCriteriaEntity,
+                assessmentCriteria,
+                hasPartner,
                 assessment.getCaseType(),
                 assessment.getMagistrateCourtOutcome(),
                 income,
@@ -66,7 +68,8 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
         if (initialAnswer.isFullAssessmentPossible()) {
             final var statelessFullResult = fullResult(
                     childGroupings,
-                    assessmentCriteriaEntity,
+                    assessmentCriteria,
+                    hasPartner,
                     assessment.getEligibilityCheckRequired(),
                     assessment.getCaseType(),
                     outgoings,
@@ -79,17 +82,20 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
 
     public StatelessFullResult fullResult(
             @NotNull Map<AgeRange, Integer> childGroupings,
-            AssessmentCriteriaEntity criteriaEntry,
+            AssessmentCriteria criteriaEntry,
+            boolean hasPartner,
             boolean eligibilityCheckRequired,
             CaseType caseType,
             List<Outgoing> outgoings,
             BigDecimal totalIncome) {
-        final var children = mapChildGroupings(childGroupings, criteriaEntry.getAssessmentCriteriaChildWeightings());
+        final var children = mapChildGroupings(childGroupings, criteriaEntry.childWeightings());
 
         // assessmentStatus has to be set 'COMPLETE' otherwise the return value is null
         final MeansAssessmentRequestDTO requestDTO = MeansAssessmentRequestDTO.builder()
                 .assessmentStatus(CurrentStatus.COMPLETE)
                 .childWeightings(children)
+                .hasPartner(hasPartner)
+                .partnerContraryInterest(false)
                 .initTotalAggregatedIncome(totalIncome)
                 .eligibilityCheckRequired(eligibilityCheckRequired)
                 .build();
@@ -103,19 +109,20 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
                 .disposableIncome(fullAssessmentResult.getTotalAnnualDisposableIncome())
                 .adjustedLivingAllowance(fullAssessmentResult.getAdjustedLivingAllowance())
                 .totalAnnualAggregatedExpenditure(fullAssessmentResult.getTotalAggregatedExpense())
-                .eligibilityThreshold(criteriaEntry.getEligibilityThreshold())
+                .eligibilityThreshold(criteriaEntry.eligibilityThreshold())
                 .build();
     }
 
     public StatelessInitialResult initialResult(
             @NotNull Map<AgeRange, Integer> childGroupings,
-            AssessmentCriteriaEntity criteriaEntry,
+            AssessmentCriteria criteriaEntry,
+            boolean hasPartner,
             CaseType caseType,
             MagCourtOutcome magCourtOutcome,
             List<Income> incomes,
             NewWorkReason newWorkReason) {
 
-        final var children = mapChildGroupings(childGroupings, criteriaEntry.getAssessmentCriteriaChildWeightings());
+        final var children = mapChildGroupings(childGroupings, criteriaEntry.childWeightings());
 
         final var totalIncome = calcIncomeTotals(criteriaEntry, caseType, incomes);
         final var initMeansAssessmentService = meansAssessmentServiceFactory.getService(AssessmentType.INIT);
@@ -123,6 +130,8 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
         // assessmentStatus has to be set 'COMPLETE' otherwise the return value is null
         final MeansAssessmentRequestDTO requestDTO = MeansAssessmentRequestDTO.builder()
                 .childWeightings(children)
+                .hasPartner(hasPartner)
+                .partnerContraryInterest(false)
                 .assessmentStatus(CurrentStatus.COMPLETE)
                 .build();
         final var result = initMeansAssessmentService.execute(totalIncome, requestDTO, criteriaEntry);
@@ -132,8 +141,8 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
 
         return StatelessInitialResult.builder()
                 .result(result.getInitAssessmentResult())
-                .lowerThreshold(criteriaEntry.getInitialLowerThreshold())
-                .upperThreshold(criteriaEntry.getInitialUpperThreshold())
+                .lowerThreshold(criteriaEntry.initialLowerThreshold())
+                .upperThreshold(criteriaEntry.initialUpperThreshold())
                 .fullAssessmentPossible(fullAssessmentPossible)
                 .adjustedIncomeValue(result.getAdjustedIncomeValue())
                 .totalAggregatedIncome(result.getTotalAggregatedIncome())
@@ -141,30 +150,20 @@ public class StatelessAssessmentService extends BaseMeansAssessmentService {
     }
 
     private BigDecimal calcIncomeTotals(
-            AssessmentCriteriaEntity assessmentCriteria, CaseType caseType, @NotNull List<Income> incomes) {
-        return calcTotalFromSummaries(
-                assessmentCriteria,
-                caseType,
-                StatelessDataAdapter.mapIncomesToSectionSummaries(assessmentCriteria, incomes));
+            AssessmentCriteria assessmentCriteria, CaseType caseType, @NotNull List<Income> incomes) {
+        return totalSectionSummaries(
+                        caseType,
+                        StatelessDataAdapter.mapIncomesToSectionSummaries(assessmentCriteria, incomes),
+                        assessmentCriteria)
+                .annualTotal();
     }
 
     private BigDecimal calcOutgoingTotals(
-            AssessmentCriteriaEntity assessmentCriteria, CaseType caseType, @NotNull List<Outgoing> outgoings) {
-        return calcTotalFromSummaries(
-                assessmentCriteria,
-                caseType,
-                StatelessDataAdapter.mapOutgoingsToSectionSummaries(assessmentCriteria, outgoings));
-    }
-
-    private BigDecimal calcTotalFromSummaries(
-            AssessmentCriteriaEntity assessmentCriteria,
-            CaseType caseType,
-            List<ApiAssessmentSectionSummary> sectionSummaries) {
-        var requestDTO = MeansAssessmentRequestDTO.builder()
-                .sectionSummaries(sectionSummaries)
-                .caseType(caseType)
-                .build();
-
-        return calculateSummariesTotal(requestDTO, assessmentCriteria);
+            AssessmentCriteria assessmentCriteria, CaseType caseType, @NotNull List<Outgoing> outgoings) {
+        return totalSectionSummaries(
+                        caseType,
+                        StatelessDataAdapter.mapOutgoingsToSectionSummaries(assessmentCriteria, outgoings),
+                        assessmentCriteria)
+                .annualTotal();
     }
 }
@@ -11,15 +11,18 @@ import uk.gov.justice.laa.crime.enums.meansassessment.OutgoingType;
 import uk.gov.justice.laa.crime.meansassessment.Amount;
 import uk.gov.justice.laa.crime.meansassessment.Income;
 import uk.gov.justice.laa.crime.meansassessment.Outgoing;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaChildWeighting;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @UtilityClass
 public class StatelessDataAdapter {
@@ -77,43 +80,68 @@ public class StatelessDataAdapter {
                             OutgoingType.CHILDCARE_COSTS,
                             OutgoingType.MAINTENANCE_COSTS));
 
+    private static final SectionTable<IncomeType> incomeSectionTable =
+            SectionTable.of(IncomeType.class, inputToDetailCodeMap, initSectionMapping);
+
+    private static final SectionTable<OutgoingType> outgoingSectionTable =
+            SectionTable.of(OutgoingType.class, outgoingToDetailCodeMap, fullSectionMapping);
+
+    private static final AgeRange[] ageRanges = AgeRange.values();
+
     public static List<ApiAssessmentSectionSummary> mapIncomesToSectionSummaries(
-            AssessmentCriteriaEntity assessmentCriteria, @NotNull List<Income> incomes) {
-        return incomes.stream()
-                .map(income -> {
-                    var detailCode = inputToDetailCodeMap.get(income.getIncomeType());
-                    var detail = createAssessmentDetail(income, assessmentCriteria, detailCode);
-                    return new ApiAssessmentSectionSummary()
-                            .withSection(getSectionByIncomeType(income.getIncomeType()))
-                            .withAssessmentDetails(Collections.singletonList(detail));
-                })
-                .toList();
+            AssessmentCriteria assessmentCriteria, @NotNull List<Income> incomes) {
+        return mapToSectionSummaries(assessmentCriteria, incomes, Income::getIncomeType, incomeSectionTable);
     }
 
     public static List<ApiAssessmentSectionSummary> mapOutgoingsToSectionSummaries(
-            AssessmentCriteriaEntity assessmentCriteria, @NotNull List<Outgoing> outgoings) {
-        return outgoings.stream()
-                .map(outgoing -> {
-                    var detailCode = outgoingToDetailCodeMap.get(outgoing.getOutgoingType());
-                    var detail = createAssessmentDetail(outgoing, assessmentCriteria, detailCode);
-                    return new ApiAssessmentSectionSummary()
-                            .withSection(getSectionByOutgoingType(outgoing.getOutgoingType()))
-                            .withAssessmentDetails(Collections.singletonList(detail));
-                })
-                .toList();
+            AssessmentCriteria assessmentCriteria, @NotNull List<Outgoing> outgoings) {
+        return mapToSectionSummaries(assessmentCriteria, outgoings, Outgoing::getOutgoingType, outgoingSectionTable);
     }
 
-    private static ApiAssessmentDetail createAssessmentDetail(
-            Amount amount, AssessmentCriteriaEntity assessmentCriteria, String detailCode) {
-        // create a map based on detailCode, so that entity can be found trivially with a get() call
-        var detailCodeToDetailEntity = assessmentCriteria.getAssessmentCriteriaDetails().stream()
-                .collect(Collectors.toMap(acd -> acd.getAssessmentDetail().getDetailCode(), Function.identity()));
+    // One summary per section, holding the section's lines in the order they were submitted
+    private static <A extends Amount, T extends Enum<T>> List<ApiAssessmentSectionSummary> mapToSectionSummaries(
+            AssessmentCriteria assessmentCriteria,
+            List<A> amounts,
+            Function<A, T> typeOf,
+            SectionTable<T> sectionTable) {
+        var detailsByCode = assessmentCriteria.detailsByCode();
+        var summaries = new ApiAssessmentSectionSummary[sectionTable.sections().size()];
+        int summaryCount = 0;
+        for (A amount : amounts) {
+            var type = typeOf.apply(amount);
+            var line = type != null ? sectionTable.lines().get(type) : null;
+            if (line == null) {
+                throw new RuntimeException(String.format("Section with value: %s does not exist.", type));
+            }
+            var criteriaDetail = detailsByCode.get(line.detailCode());
+            if (criteriaDetail == null) {
+                throw new RuntimeException(
+                        String.format("Criteria detail with code: %s does not exist.", line.detailCode()));
+            }
+            var summary = summaries[line.section()];
+            if (summary == null) {
+                summary = new ApiAssessmentSectionSummary()
+                        .withSection(sectionTable.sections().get(line.section()))
+                        .withAssessmentDetails(new ArrayList<>());
+                summaries[line.section()] = summary;
+                summaryCount++;
+            }
+            summary.getAssessmentDetails().add(createAssessmentDetail(amount, criteriaDetail));
+        }
+        List<ApiAssessmentSectionSummary> sectionSummaries = new ArrayList<>(summaryCount);
+        for (ApiAssessmentSectionSummary summary : summaries) {
+            if (summary != null) {
+                sectionSummaries.add(summary);
+            }
+        }
+        return sectionSummaries;
+    }
 
-        var detailEntity = detailCodeToDetailEntity.get(detailCode);
+    private static ApiAssessmentDetail createAssessmentDetail(Amount amount, AssessmentCriteriaDetail criteriaDetail) {
         var applicant = amount.getApplicant();
         var partner = amount.getPartner();
         var detail = new ApiAssessmentDetail()
-                .withCriteriaDetailId(detailEntity.getId())
+                .withCriteriaDetailId(criteriaDetail.id())
                 .withApplicantAmount(applicant.getAmount())
                 .withApplicantFrequency(applicant.getFrequency());
         if (partner != null) {
@@ -123,52 +151,56 @@ public class StatelessDataAdapter {
     }
 
     public static List<ApiAssessmentChildWeighting> mapChildGroupings(
-            Map<AgeRange, Integer> childGroupings, Set<AssessmentCriteriaChildWeightingEntity> childWeightings) {
-        final var children = childGroupings.entrySet().stream()
-                .map(childGroup -> {
-                    var weighting = childWeightings.stream()
-                            .filter(weightingEntity -> {
-                                final AgeRange grouping = childGroup.getKey();
-                                return weightingEntity.getLowerAgeRange() == grouping.getLowerLimit()
-                                        && weightingEntity.getUpperAgeRange() == grouping.getUpperLimit();
-                            })
-                            .findFirst();
-                    return new ApiAssessmentChildWeighting()
-                            .withChildWeightingId(weighting.get().getId())
-                            .withNoOfChildren(childGroup.getValue());
-                })
-                .collect(Collectors.toList());
-        final var childIds = children.stream()
-                .map(ApiAssessmentChildWeighting::getChildWeightingId)
-                .collect(Collectors.toSet());
-        final var zeroes = childWeightings.stream()
-                .filter(x -> !childIds.contains(x.getId()))
-                .map(x -> new ApiAssessmentChildWeighting()
-                        .withChildWeightingId(x.getId())
-                        .withNoOfChildren(0))
-                .toList();
-        // Service requires non-present groups to be filled in with zero values
-        children.addAll(zeroes);
+            Map<AgeRange, Integer> childGroupings, List<AssessmentCriteriaChildWeighting> childWeightings) {
+        final var children = new ArrayList<ApiAssessmentChildWeighting>(childWeightings.size());
+        final var matched = EnumSet.noneOf(AgeRange.class);
+        for (AssessmentCriteriaChildWeighting childWeighting : childWeightings) {
+            var grouping = getAgeRange(childWeighting);
+            Integer noOfChildren = null;
+            if (grouping != null && matched.add(grouping)) {
+                noOfChildren = childGroupings.get(grouping);
+            }
+            // Service requires non-present groups to be filled in with zero values
+            children.add(new ApiAssessmentChildWeighting()
+                    .withChildWeightingId(childWeighting.id())
+                    .withNoOfChildren(noOfChildren != null ? noOfChildren : 0));
+        }
+        for (AgeRange grouping : childGroupings.keySet()) {
+            if (!matched.contains(grouping)) {
+                throw new NoSuchElementException(
+                        String.format("Child weighting for age range: %s does not exist.", grouping));
+            }
+        }
         return children;
     }
 
-    // find section name from IncomeType
-    private static String getSectionByIncomeType(IncomeType incomeType) {
-        var section = initSectionMapping.entrySet().stream()
-                .filter(sectionMap -> sectionMap.getValue().contains(incomeType))
-                .findFirst();
-        return section.map(Map.Entry::getKey)
-                .orElseThrow(() ->
-                        new RuntimeException(String.format("Section with value: %s does not exist.", incomeType)));
+    private static AgeRange getAgeRange(AssessmentCriteriaChildWeighting childWeighting) {
+        for (AgeRange grouping : ageRanges) {
+            if (childWeighting.lowerAgeRange() == grouping.getLowerLimit()
+                    && childWeighting.upperAgeRange() == grouping.getUpperLimit()) {
+                return grouping;
+            }
+        }
+        return null;
     }
 
-    // find section name from OutgoingType
-    private static String getSectionByOutgoingType(OutgoingType outgoingType) {
-        var section = fullSectionMapping.entrySet().stream()
-                .filter(sectionMap -> sectionMap.getValue().contains(outgoingType))
-                .findFirst();
-        return section.map(Map.Entry::getKey)
-                .orElseThrow(() ->
-                        new RuntimeException(String.format("Section with value: %s does not exist.", outgoingType)));
+    private record DetailLine(int section, String detailCode) {}
+
+    /**
+     * Income or outgoing type to section and criteria detail code, resolved once rather than searched for each item.
+     */
+    private record SectionTable<T extends Enum<T>>(List<String> sections, Map<T, DetailLine> lines) {
+
+        static <T extends Enum<T>> SectionTable<T> of(
+                Class<T> type, Map<T, String> detailCodes, Map<String, List<T>> sectionMapping) {
+            List<String> sections = sectionMapping.keySet().stream().sorted().toList();
+            Map<T, DetailLine> lines = new EnumMap<>(type);
+            for (int section = 0; section < sections.size(); section++) {
+                for (T value : sectionMapping.get(sections.get(section))) {
+                    lines.put(value, new DetailLine(section, detailCodes.get(value)));
+                }
+            }
+            return new SectionTable<>(sections, Collections.unmodifiableMap(lines));
+        }
     }
 }
@@ -0,0 +1,119 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentProcessingException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets concurrent identical stateless requests share one assessment. The first caller for a key runs it and the
+ * others wait on its future, so a burst of retries resolves criteria and calculates once. Off unless
+ * {@code stateless-assessment.coalescing.enabled} is set.
+ *
+ * <p>Waiting is bounded: a caller that has not been answered within {@code max-wait} assesses the request itself
+ * rather than queue any longer behind a slow leader. A failure is passed to every caller that shared the
+ * assessment, and nothing is kept once the leader finishes.
+ */
+@Slf4j
+@Component
+public class StatelessRequestCoalescer implements MeterBinder {
+
+    static final String COALESCED_COUNTER = "stateless.assessment.coalesced";
+    static final String TIMEOUT_COUNTER = "stateless.assessment.coalesced.timeouts";
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Map<StatelessResultKey, CompletableFuture<StatelessResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public StatelessRequestCoalescer(
+            @Value("${stateless-assessment.coalescing.enabled:false}") boolean enabled,
+            @Value("${stateless-assessment.coalescing.max-wait:PT5S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public StatelessResult execute(StatelessResultKey key, Supplier<StatelessResult> assessment) {
+        if (!enabled) {
+            return assessment.get();
+        }
+        CompletableFuture<StatelessResult> flight = new CompletableFuture<>();
+        CompletableFuture<StatelessResult> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            return lead(key, flight, assessment);
+        }
+        coalesced.increment();
+        return follow(leader, assessment);
+    }
+
+    private StatelessResult lead(
+            StatelessResultKey key, CompletableFuture<StatelessResult> flight, Supplier<StatelessResult> assessment) {
+        try {
+            StatelessResult result = assessment.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private StatelessResult follow(CompletableFuture<StatelessResult> leader, Supplier<StatelessResult> assessment) {
+        try {
+            return leader.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.warn("Stateless assessment still in flight after {}, assessing the request separately", maxWait);
+            return assessment.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new AssessmentProcessingException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssessmentProcessingException("Interrupted waiting for a shared stateless assessment", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        FunctionCounter.builder(COALESCED_COUNTER, coalesced, LongAdder::sum)
+                .description("Stateless requests answered by an identical request already in flight")
+                .register(registry);
+        FunctionCounter.builder(TIMEOUT_COUNTER, timeouts, LongAdder::sum)
+                .description("Coalesced stateless requests that stopped waiting and were assessed separately")
+                .register(registry);
+        Gauge.builder("stateless.assessment.in.flight", inFlight, Map::size)
+                .description("Distinct stateless requests currently being assessed")
+                .register(registry);
+    }
+}
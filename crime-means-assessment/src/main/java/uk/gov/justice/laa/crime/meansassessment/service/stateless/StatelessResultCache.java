@@ -0,0 +1,109 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
+import uk.gov.justice.laa.crime.enums.meansassessment.AgeRange;
+import uk.gov.justice.laa.crime.meansassessment.Income;
+import uk.gov.justice.laa.crime.meansassessment.Outgoing;
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers recent stateless assessment results, so a calculator that re-submits the same request on refresh, back
+ * navigation or retry is answered without assessing it again. Off unless
+ * {@code stateless-assessment.result-cache.enabled} is set.
+ *
+ * <p>Keys carry the criteria snapshot version, so a result is never served once the criteria it was calculated
+ * from have been replaced; the old entries simply age out. The cache is bounded by the heap its entries hold, as
+ * weighed by {@link StatelessResultWeigher}, rather than by their number. Failed assessments are not cached. Misses,
+ * and every request when the cache is off, go through {@link StatelessRequestCoalescer}.
+ */
+@Component
+public class StatelessResultCache implements MeterBinder {
+
+    static final String CACHE_NAME = "stateless.assessment.results";
+
+    private final StatelessAssessmentService statelessAssessmentService;
+    private final StatelessRequestCoalescer statelessRequestCoalescer;
+    private final AssessmentCriteriaService assessmentCriteriaService;
+    private final Cache<StatelessResultKey, StatelessResult> results;
+
+    public StatelessResultCache(
+            StatelessAssessmentService statelessAssessmentService,
+            StatelessRequestCoalescer statelessRequestCoalescer,
+            AssessmentCriteriaService assessmentCriteriaService,
+            @Value("${stateless-assessment.result-cache.enabled:false}") boolean enabled,
+            @Value("${stateless-assessment.result-cache.maximum-weight:8MB}") DataSize maximumWeight,
+            @Value("${stateless-assessment.result-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.statelessAssessmentService = statelessAssessmentService;
+        this.statelessRequestCoalescer = statelessRequestCoalescer;
+        this.assessmentCriteriaService = assessmentCriteriaService;
+        this.results = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maximumWeight.toBytes())
+                        .weigher(new StatelessResultWeigher())
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public StatelessResult execute(
+            Assessment assessment,
+            Map<AgeRange, Integer> childGroupings,
+            List<Income> incomes,
+            List<Outgoing> outgoings) {
+        Supplier<StatelessResult> assess =
+                () -> statelessAssessmentService.execute(assessment, childGroupings, incomes, outgoings);
+        if (results == null && !statelessRequestCoalescer.isEnabled()) {
+            return assess.get();
+        }
+        StatelessResultKey key = StatelessResultKey.of(
+                assessmentCriteriaService.getCriteriaVersion(), assessment, childGroupings, incomes, outgoings);
+        if (results == null) {
+            return statelessRequestCoalescer.execute(key, assess);
+        }
+        StatelessResult result = results.getIfPresent(key);
+        if (result == null) {
+            result = statelessRequestCoalescer.execute(key, assess);
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (results == null) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(registry, results, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", results, cache -> cache.stats().hitRate())
+                .description("Share of stateless assessments answered from the result cache")
+                .register(registry);
+        Gauge.builder(CACHE_NAME + ".weight", results, StatelessResultCache::weightedSize)
+                .description("Heap held by cached stateless assessment results, as weighed by StatelessResultWeigher")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static long weightedSize(Cache<StatelessResultKey, StatelessResult> cache) {
+        return cache.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
+import uk.gov.justice.laa.crime.enums.meansassessment.AgeRange;
+import uk.gov.justice.laa.crime.meansassessment.Amount;
+import uk.gov.justice.laa.crime.meansassessment.FrequencyAmount;
+import uk.gov.justice.laa.crime.meansassessment.Income;
+import uk.gov.justice.laa.crime.meansassessment.Outgoing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Identifies a stateless assessment by everything its result depends on: the criteria snapshot version and a
+ * canonical hash of the request.
+ *
+ * <p>Requests that can only produce the same result share a key. Income and outgoing lines are hashed in sorted
+ * order, because every line is totalled on its own before the totals are added, and an age range with no children
+ * hashes the same whether it was sent as zero or left out. Amounts keep their scale.
+ */
+public record StatelessResultKey(String criteriaVersion, String requestHash) {
+
+    public static StatelessResultKey of(
+            String criteriaVersion,
+            Assessment assessment,
+            Map<AgeRange, Integer> childGroupings,
+            List<Income> incomes,
+            List<Outgoing> outgoings) {
+        StringBuilder content = new StringBuilder();
+        append(
+                content,
+                "A",
+                assessment.getAssessmentType(),
+                assessment.getAssessmentDate(),
+                assessment.getHasPartner(),
+                assessment.getCaseType(),
+                assessment.getMagistrateCourtOutcome(),
+                assessment.getEligibilityCheckRequired());
+        for (AgeRange ageRange : AgeRange.values()) {
+            Integer children = childGroupings.get(ageRange);
+            append(content, "C", ageRange, children != null ? children : 0);
+        }
+        List<String> lines = new ArrayList<>();
+        if (incomes != null) {
+            incomes.forEach(income -> lines.add(line("I", income.getIncomeType(), income)));
+        }
+        if (outgoings != null) {
+            outgoings.forEach(outgoing -> lines.add(line("O", outgoing.getOutgoingType(), outgoing)));
+        }
+        Collections.sort(lines);
+        lines.forEach(content::append);
+        return new StatelessResultKey(criteriaVersion, HexFormat.of().formatHex(sha256(content.toString())));
+    }
+
+    private static String line(String type, Enum<?> lineType, Amount amount) {
+        StringBuilder line = new StringBuilder();
+        FrequencyAmount applicant = amount.getApplicant();
+        FrequencyAmount partner = amount.getPartner();
+        append(
+                line,
+                type,
+                lineType,
+                applicant != null ? applicant.getAmount() : null,
+                applicant != null ? applicant.getFrequency() : null,
+                partner != null ? partner.getAmount() : null,
+                partner != null ? partner.getFrequency() : null);
+        return line.toString();
+    }
+
+    private static void append(StringBuilder content, String type, Object... values) {
+        content.append(type);
+        for (Object value : values) {
+            content.append(';').append(value);
+        }
+        content.append('\n');
+    }
+
+    private static byte[] sha256(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import uk.gov.justice.laa.crime.meansassessment.StatelessFullResult;
+import uk.gov.justice.laa.crime.meansassessment.StatelessInitialResult;
+
+import java.math.BigDecimal;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs a cached stateless result by the heap it holds, in bytes, worked out from the field layout of a 64-bit JVM
+ * with compressed references. The thresholds a result copies from the criteria snapshot and the enum constants are
+ * shared with the rest of the application, so they are not counted against the entry.
+ */
+class StatelessResultWeigher implements Weigher<StatelessResultKey, StatelessResult> {
+
+    // Cache node with its key, value, links, write time and weight
+    static final int ENTRY_BYTES = 48;
+    // Header and two references, for the key record and for StatelessResult alike
+    static final int PAIR_BYTES = 24;
+    // Header, five references and a boolean
+    static final int INITIAL_RESULT_BYTES = 40;
+    // Header and five references
+    static final int FULL_RESULT_BYTES = 32;
+    // Header, intVal, scale, precision, stringCache and intCompact; amounts in pounds and pence never need intVal
+    static final int DECIMAL_BYTES = 40;
+
+    @Override
+    public int weigh(StatelessResultKey key, StatelessResult result) {
+        int bytes = ENTRY_BYTES
+                + PAIR_BYTES
+                + stringBytes(key.criteriaVersion())
+                + stringBytes(key.requestHash())
+                + PAIR_BYTES;
+        StatelessInitialResult initialResult = result.getInitialResult();
+        if (initialResult != null) {
+            bytes += INITIAL_RESULT_BYTES
+                    + decimalBytes(initialResult.getAdjustedIncomeValue())
+                    + decimalBytes(initialResult.getTotalAggregatedIncome());
+        }
+        StatelessFullResult fullResult = result.getFullResult();
+        if (fullResult != null) {
+            bytes += FULL_RESULT_BYTES
+                    + decimalBytes(fullResult.getDisposableIncome())
+                    + decimalBytes(fullResult.getAdjustedLivingAllowance())
+                    + decimalBytes(fullResult.getTotalAnnualAggregatedExpenditure());
+        }
+        return bytes;
+    }
+
+    private static int decimalBytes(BigDecimal value) {
+        return value != null ? DECIMAL_BYTES : 0;
+    }
+
+    // String object plus its Latin-1 byte array; versions and hashes are hex
+    private static int stringBytes(String value) {
+        return value != null ? 24 + align(16 + value.length()) : 0;
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+}
@@ -7,7 +7,8 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum LoggingData {
     MAAT_ID("maatId"),
-    LAA_TRANSACTION_ID("laaTransactionId");
+    LAA_TRANSACTION_ID("laaTransactionId"),
+    CRITERIA_VERSION("criteriaVersion");
 
     private String value;
 }
@@ -0,0 +1,95 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One assessment criteria period as served from the criteria snapshot. A period cannot be changed once it is built,
+ * so the snapshot hands the same instance to every request it covers.
+ *
+ * @param detailsByCode the period's details by the code of the assessment detail they record
+ * @param scaledCriteria the period's weightings, scaled when it is built
+ * @param calculator the period's detail lines, thresholds and weightings, resolved when it is built
+ */
+public record AssessmentCriteria(
+        Integer id,
+        LocalDateTime dateFrom,
+        LocalDateTime dateTo,
+        BigDecimal initialLowerThreshold,
+        BigDecimal initialUpperThreshold,
+        BigDecimal fullThreshold,
+        BigDecimal applicantWeightingFactor,
+        BigDecimal partnerWeightingFactor,
+        BigDecimal livingAllowance,
+        BigDecimal eligibilityThreshold,
+        List<AssessmentCriteriaChildWeighting> childWeightings,
+        List<AssessmentCriteriaDetail> details,
+        Map<String, AssessmentCriteriaDetail> detailsByCode,
+        ScaledAssessmentCriteria scaledCriteria,
+        AssessmentCriteriaCalculator calculator) {
+
+    /**
+     * Builds a period from its reference values, deriving its lookup index, scaled weightings and calculator from
+     * them.
+     */
+    @Builder
+    public static AssessmentCriteria of(
+            Integer id,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            BigDecimal initialLowerThreshold,
+            BigDecimal initialUpperThreshold,
+            BigDecimal fullThreshold,
+            BigDecimal applicantWeightingFactor,
+            BigDecimal partnerWeightingFactor,
+            BigDecimal livingAllowance,
+            BigDecimal eligibilityThreshold,
+            List<AssessmentCriteriaChildWeighting> childWeightings,
+            List<AssessmentCriteriaDetail> details) {
+        List<AssessmentCriteriaChildWeighting> periodChildWeightings =
+                childWeightings != null ? List.copyOf(childWeightings) : List.of();
+        List<AssessmentCriteriaDetail> periodDetails = details != null ? List.copyOf(details) : List.of();
+        ScaledAssessmentCriteria scaledCriteria = ScaledAssessmentCriteria.of(
+                applicantWeightingFactor, partnerWeightingFactor, livingAllowance, periodChildWeightings);
+        return new AssessmentCriteria(
+                id,
+                dateFrom,
+                dateTo,
+                initialLowerThreshold,
+                initialUpperThreshold,
+                fullThreshold,
+                applicantWeightingFactor,
+                partnerWeightingFactor,
+                livingAllowance,
+                eligibilityThreshold,
+                periodChildWeightings,
+                periodDetails,
+                indexByCode(periodDetails),
+                scaledCriteria,
+                AssessmentCriteriaCalculator.builder()
+                        .criteriaId(id)
+                        .initialLowerThreshold(initialLowerThreshold)
+                        .initialUpperThreshold(initialUpperThreshold)
+                        .fullThreshold(fullThreshold)
+                        .eligibilityThreshold(eligibilityThreshold)
+                        .scaledCriteria(scaledCriteria)
+                        .details(periodDetails)
+                        .build());
+    }
+
+    private static Map<String, AssessmentCriteriaDetail> indexByCode(List<AssessmentCriteriaDetail> details) {
+        Map<String, AssessmentCriteriaDetail> detailsByCode = new HashMap<>();
+        for (AssessmentCriteriaDetail detail : details) {
+            if (detail.detailCode() != null) {
+                detailsByCode.put(detail.detailCode(), detail);
+            }
+        }
+        return Collections.unmodifiableMap(detailsByCode);
+    }
+}
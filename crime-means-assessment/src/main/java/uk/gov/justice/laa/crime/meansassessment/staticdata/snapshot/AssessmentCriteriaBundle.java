@@ -0,0 +1,53 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Serialised form of an {@link AssessmentCriteriaSnapshot}, bundled on the classpath so the stateless engine can
+ * start without a database. Only the reference values are kept; audit columns are dropped. Case types and
+ * frequencies are held as their database codes, so the bundle reads the same as the reference tables.
+ */
+public record AssessmentCriteriaBundle(
+        int formatVersion, String version, Instant exportedAt, List<Criteria> assessmentCriteria) {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public record Criteria(
+            Integer id,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            BigDecimal initialLowerThreshold,
+            BigDecimal initialUpperThreshold,
+            BigDecimal fullThreshold,
+            BigDecimal applicantWeightingFactor,
+            BigDecimal partnerWeightingFactor,
+            BigDecimal livingAllowance,
+            BigDecimal eligibilityThreshold,
+            List<ChildWeighting> childWeightings,
+            List<Detail> details) {}
+
+    public record ChildWeighting(
+            Integer id, Integer lowerAgeRange, Integer upperAgeRange, BigDecimal weightingFactor) {}
+
+    public record Detail(
+            Integer id,
+            String section,
+            Integer seq,
+            String description,
+            Boolean useFrequency,
+            String detailCode,
+            String detailDescription,
+            List<String> permittedFrequencies,
+            List<CaseTypeValue> caseTypeValues) {}
+
+    public record CaseTypeValue(
+            Integer id,
+            String caseType,
+            BigDecimal applicantValue,
+            BigDecimal partnerValue,
+            String applicantFrequency,
+            String partnerFrequency) {}
+}
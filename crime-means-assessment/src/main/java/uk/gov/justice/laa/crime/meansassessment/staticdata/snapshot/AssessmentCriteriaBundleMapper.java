@@ -0,0 +1,151 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.experimental.UtilityClass;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@UtilityClass
+public class AssessmentCriteriaBundleMapper {
+
+    public static AssessmentCriteriaBundle toBundle(AssessmentCriteriaSnapshot snapshot, Instant exportedAt) {
+        List<AssessmentCriteriaBundle.Criteria> criteria = snapshot.getAssessmentCriteria().stream()
+                .sorted(Comparator.comparing(AssessmentCriteria::id))
+                .map(AssessmentCriteriaBundleMapper::toBundle)
+                .toList();
+        return new AssessmentCriteriaBundle(
+                AssessmentCriteriaBundle.FORMAT_VERSION, snapshot.getVersion(), exportedAt, criteria);
+    }
+
+    private static AssessmentCriteriaBundle.Criteria toBundle(AssessmentCriteria criteria) {
+        return new AssessmentCriteriaBundle.Criteria(
+                criteria.id(),
+                criteria.dateFrom(),
+                criteria.dateTo(),
+                criteria.initialLowerThreshold(),
+                criteria.initialUpperThreshold(),
+                criteria.fullThreshold(),
+                criteria.applicantWeightingFactor(),
+                criteria.partnerWeightingFactor(),
+                criteria.livingAllowance(),
+                criteria.eligibilityThreshold(),
+                criteria.childWeightings().stream()
+                        .sorted(Comparator.comparing(AssessmentCriteriaChildWeighting::id))
+                        .map(childWeighting -> new AssessmentCriteriaBundle.ChildWeighting(
+                                childWeighting.id(),
+                                childWeighting.lowerAgeRange(),
+                                childWeighting.upperAgeRange(),
+                                childWeighting.weightingFactor()))
+                        .toList(),
+                criteria.details().stream()
+                        .sorted(Comparator.comparing(AssessmentCriteriaDetail::id))
+                        .map(AssessmentCriteriaBundleMapper::toBundle)
+                        .toList());
+    }
+
+    private static AssessmentCriteriaBundle.Detail toBundle(AssessmentCriteriaDetail detail) {
+        return new AssessmentCriteriaBundle.Detail(
+                detail.id(),
+                detail.section(),
+                detail.seq(),
+                detail.description(),
+                detail.useFrequency(),
+                detail.detailCode(),
+                detail.detailDescription(),
+                toCodes(detail.permittedFrequencies()),
+                detail.caseTypeValues().stream()
+                        .sorted(Comparator.comparing(AssessmentCriteriaDetail.CaseTypeValue::id))
+                        .map(value -> new AssessmentCriteriaBundle.CaseTypeValue(
+                                value.id(),
+                                toCode(value.caseType()),
+                                value.applicantValue(),
+                                value.partnerValue(),
+                                toCode(value.applicantFrequency()),
+                                toCode(value.partnerFrequency())))
+                        .toList());
+    }
+
+    public static List<AssessmentCriteria> toAssessmentCriteria(AssessmentCriteriaBundle bundle) {
+        return bundle.assessmentCriteria().stream()
+                .map(AssessmentCriteriaBundleMapper::toAssessmentCriteria)
+                .toList();
+    }
+
+    private static AssessmentCriteria toAssessmentCriteria(AssessmentCriteriaBundle.Criteria bundled) {
+        return AssessmentCriteria.builder()
+                .id(bundled.id())
+                .dateFrom(bundled.dateFrom())
+                .dateTo(bundled.dateTo())
+                .initialLowerThreshold(bundled.initialLowerThreshold())
+                .initialUpperThreshold(bundled.initialUpperThreshold())
+                .fullThreshold(bundled.fullThreshold())
+                .applicantWeightingFactor(bundled.applicantWeightingFactor())
+                .partnerWeightingFactor(bundled.partnerWeightingFactor())
+                .livingAllowance(bundled.livingAllowance())
+                .eligibilityThreshold(bundled.eligibilityThreshold())
+                .childWeightings(bundled.childWeightings().stream()
+                        .map(childWeighting -> new AssessmentCriteriaChildWeighting(
+                                childWeighting.id(),
+                                childWeighting.lowerAgeRange(),
+                                childWeighting.upperAgeRange(),
+                                childWeighting.weightingFactor()))
+                        .toList())
+                .details(bundled.details().stream()
+                        .map(AssessmentCriteriaBundleMapper::toDetail)
+                        .toList())
+                .build();
+    }
+
+    private static AssessmentCriteriaDetail toDetail(AssessmentCriteriaBundle.Detail bundled) {
+        Set<Frequency> permittedFrequencies = EnumSet.noneOf(Frequency.class);
+        if (bundled.permittedFrequencies() != null) {
+            for (String code : bundled.permittedFrequencies()) {
+                permittedFrequencies.add(Frequency.getFrom(code));
+            }
+        }
+        return AssessmentCriteriaDetail.builder()
+                .id(bundled.id())
+                .section(bundled.section())
+                .seq(bundled.seq())
+                .description(bundled.description())
+                .useFrequency(bundled.useFrequency())
+                .detailCode(bundled.detailCode())
+                .detailDescription(bundled.detailDescription())
+                .permittedFrequencies(permittedFrequencies)
+                .caseTypeValues(bundled.caseTypeValues().stream()
+                        .map(value -> new AssessmentCriteriaDetail.CaseTypeValue(
+                                value.id(),
+                                value.caseType() != null ? CaseType.getFrom(value.caseType()) : null,
+                                value.applicantValue(),
+                                toFrequency(value.applicantFrequency()),
+                                value.partnerValue(),
+                                toFrequency(value.partnerFrequency())))
+                        .toList())
+                .build();
+    }
+
+    static String toCode(CaseType caseType) {
+        return caseType != null ? caseType.getCaseType() : null;
+    }
+
+    static String toCode(Frequency frequency) {
+        return frequency != null ? frequency.getCode() : null;
+    }
+
+    // Sorted by code so the order does not depend on the set implementation
+    static List<String> toCodes(Set<Frequency> frequencies) {
+        if (frequencies == null) {
+            return List.of();
+        }
+        return frequencies.stream().map(Frequency::getCode).sorted().toList();
+    }
+
+    private static Frequency toFrequency(String code) {
+        return code != null ? Frequency.getFrom(code) : null;
+    }
+}
@@ -0,0 +1,221 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.Builder;
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentChildWeighting;
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
+import uk.gov.justice.laa.crime.enums.InitAssessmentResult;
+import uk.gov.justice.laa.crime.enums.NewWorkReason;
+import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Everything one assessment criteria period needs to check and grade an assessment, resolved once when the period is
+ * built. Services pass it the submitted lines and amounts; the arithmetic on those amounts stays with the configured
+ * {@code MeansCalculationKernel}.
+ *
+ * <p>Each criteria detail is given a dense slot, reached through a section to criteria detail id index. A slot holds
+ * the detail's permitted frequencies as an {@link EnumSet} and its fixed amounts by case type as an {@link EnumMap},
+ * with the amounts that apply when no case type is given held beside it.
+ */
+public final class AssessmentCriteriaCalculator {
+
+    private final Integer criteriaId;
+    private final BigDecimal initialLowerThreshold;
+    private final BigDecimal initialUpperThreshold;
+    private final BigDecimal fullThreshold;
+    private final BigDecimal eligibilityThreshold;
+    private final ScaledAssessmentCriteria scaledCriteria;
+    private final Map<String, Map<Integer, Integer>> slotsBySection;
+    private final DetailLine[] detailLines;
+
+    @Builder
+    private AssessmentCriteriaCalculator(
+            Integer criteriaId,
+            BigDecimal initialLowerThreshold,
+            BigDecimal initialUpperThreshold,
+            BigDecimal fullThreshold,
+            BigDecimal eligibilityThreshold,
+            ScaledAssessmentCriteria scaledCriteria,
+            List<AssessmentCriteriaDetail> details) {
+        this.criteriaId = criteriaId;
+        this.initialLowerThreshold = initialLowerThreshold;
+        this.initialUpperThreshold = initialUpperThreshold;
+        this.fullThreshold = fullThreshold;
+        this.eligibilityThreshold = eligibilityThreshold;
+        this.scaledCriteria = scaledCriteria;
+
+        Map<String, Map<Integer, Integer>> sectionIndex = new HashMap<>();
+        detailLines = new DetailLine[details.size()];
+        for (int slot = 0; slot < detailLines.length; slot++) {
+            AssessmentCriteriaDetail detail = details.get(slot);
+            sectionIndex.computeIfAbsent(detail.section(), section -> new HashMap<>()).put(detail.id(), slot);
+            detailLines[slot] = DetailLine.of(detail);
+        }
+        sectionIndex.replaceAll((section, slots) -> Collections.unmodifiableMap(slots));
+        this.slotsBySection = Collections.unmodifiableMap(sectionIndex);
+    }
+
+    public void checkAssessmentDetail(CaseType caseType, String section, ApiAssessmentDetail detail) {
+        DetailLine criteriaDetail = getDetailLine(section, detail.getCriteriaDetailId());
+        if (criteriaDetail == null) {
+            throw new ValidationException(String.format(
+                    "Section: %s criteria detail item: %d does not exist for criteria id: %s",
+                    section, detail.getCriteriaDetailId(), criteriaId));
+        }
+
+        // These two checks are for Council Tax not being submitted anything other than 'ANNUALLY'
+        Frequency applicantFrequency = detail.getApplicantFrequency();
+        if (applicantFrequency != null && !criteriaDetail.permittedFrequencies().contains(applicantFrequency)) {
+            throw invalidFrequency(applicantFrequency, criteriaDetail.description());
+        }
+
+        Frequency partnerFrequency = detail.getPartnerFrequency();
+        if (partnerFrequency != null && !criteriaDetail.permittedFrequencies().contains(partnerFrequency)) {
+            throw invalidFrequency(partnerFrequency, criteriaDetail.description());
+        }
+
+        checkCaseTypeValue(criteriaDetail.getCaseTypeValue(caseType), criteriaDetail.description(), detail);
+    }
+
+    /**
+     * The sum of each child weighting factor multiplied by the number of children it covers. The total is not
+     * rounded; the kernel brings it to the standard scale when it applies it.
+     */
+    public BigDecimal getTotalChildWeighting(List<ApiAssessmentChildWeighting> childWeightings) {
+        Map<Integer, BigDecimal> weightingFactors = scaledCriteria.childWeightingFactors();
+        if (weightingFactors.size() != childWeightings.size()) {
+            throw new ValidationException(String.format("Child weightings missing for criteria: %d", criteriaId));
+        }
+
+        BigDecimal totalChildWeighting = BigDecimal.ZERO;
+        for (ApiAssessmentChildWeighting weighting : childWeightings) {
+            BigDecimal weightingFactor = weightingFactors.get(weighting.getChildWeightingId());
+            if (weightingFactor == null) {
+                throw new ValidationException(
+                        String.format("Invalid child weighting id: %s", weighting.getChildWeightingId()));
+            }
+
+            totalChildWeighting =
+                    totalChildWeighting.add(weightingFactor.multiply(BigDecimal.valueOf(weighting.getNoOfChildren())));
+        }
+        return totalChildWeighting;
+    }
+
+    /**
+     * @see ScaledAssessmentCriteria#weightingsFor
+     */
+    public ScaledAssessmentCriteria.Weightings weightingsFor(boolean hasPartner, boolean partnerContraryInterest) {
+        return scaledCriteria.weightingsFor(hasPartner, partnerContraryInterest);
+    }
+
+    public InitAssessmentResult getInitAssessmentResult(BigDecimal adjustedIncomeValue, NewWorkReason newWorkReason) {
+        if (adjustedIncomeValue.compareTo(initialLowerThreshold) <= 0) {
+            return InitAssessmentResult.PASS;
+        } else if (adjustedIncomeValue.compareTo(initialUpperThreshold) >= 0) {
+            // Comment in PL/SQL suggests this should also apply to crown court cases
+            if (newWorkReason == NewWorkReason.HR) {
+                return InitAssessmentResult.HARDSHIP;
+            } else {
+                return InitAssessmentResult.FAIL;
+            }
+        } else {
+            return InitAssessmentResult.FULL;
+        }
+    }
+
+    /**
+     * @param eligibilityCheckRequired whether the case is a crown court case that the eligibility threshold applies to
+     */
+    public FullAssessmentResult getFullAssessmentResult(BigDecimal disposableIncome, boolean eligibilityCheckRequired) {
+        if (eligibilityCheckRequired && disposableIncome.compareTo(eligibilityThreshold) >= 0) {
+            return FullAssessmentResult.INEL;
+        } else if (disposableIncome.compareTo(fullThreshold) <= 0) {
+            return FullAssessmentResult.PASS;
+        } else {
+            return FullAssessmentResult.FAIL;
+        }
+    }
+
+    private DetailLine getDetailLine(String section, Integer criteriaDetailId) {
+        Map<Integer, Integer> sectionSlots = slotsBySection.get(section);
+        Integer slot = sectionSlots != null ? sectionSlots.get(criteriaDetailId) : null;
+        return slot != null ? detailLines[slot] : null;
+    }
+
+    private static void checkCaseTypeValue(
+            AssessmentCriteriaDetail.CaseTypeValue criteriaDetailValue,
+            String description,
+            ApiAssessmentDetail detail) {
+        Frequency applicantFrequency = detail.getApplicantFrequency();
+        Frequency partnerFrequency = detail.getPartnerFrequency();
+        // This checks that appeal costs have been submitted as exactly £500 for applicant and £0 for partner.
+        // Think this is meant to be an 'allowance', but is currently implemented as an input.
+        if (criteriaDetailValue != null
+                && ((criteriaDetailValue.applicantValue().compareTo(detail.getApplicantAmount()) != 0
+                                || (applicantFrequency != null
+                                        && !applicantFrequency
+                                                .getCode()
+                                                .equals(criteriaDetailValue
+                                                        .applicantFrequency()
+                                                        .getCode())))
+                        || (criteriaDetailValue.partnerValue().compareTo(detail.getPartnerAmount()) != 0
+                                || (partnerFrequency != null
+                                        && !partnerFrequency
+                                                .getCode()
+                                                .equals(criteriaDetailValue
+                                                        .partnerFrequency()
+                                                        .getCode()))))) {
+            throw new ValidationException("Incorrect amount entered for: " + description);
+        }
+    }
+
+    private static ValidationException invalidFrequency(Frequency frequency, String description) {
+        return new ValidationException(
+                String.format("Frequency: %s not valid for: %s", frequency.getCode(), description));
+    }
+
+    /**
+     * @param caseTypeValues fixed amounts by case type; an EnumMap cannot hold a null key, so the amounts that apply
+     *     when no case type is given are held in defaultCaseTypeValue
+     */
+    private record DetailLine(
+            String description,
+            Set<Frequency> permittedFrequencies,
+            Map<CaseType, AssessmentCriteriaDetail.CaseTypeValue> caseTypeValues,
+            AssessmentCriteriaDetail.CaseTypeValue defaultCaseTypeValue) {
+
+        static DetailLine of(AssessmentCriteriaDetail detail) {
+            Set<Frequency> permittedFrequencies = EnumSet.noneOf(Frequency.class);
+            permittedFrequencies.addAll(detail.permittedFrequencies());
+            Map<CaseType, AssessmentCriteriaDetail.CaseTypeValue> caseTypeValues = new EnumMap<>(CaseType.class);
+            AssessmentCriteriaDetail.CaseTypeValue defaultCaseTypeValue = null;
+            for (AssessmentCriteriaDetail.CaseTypeValue value : detail.caseTypeValues()) {
+                if (value.caseType() == null) {
+                    defaultCaseTypeValue = value;
+                } else {
+                    caseTypeValues.put(value.caseType(), value);
+                }
+            }
+            return new DetailLine(
+                    detail.description(),
+                    Collections.unmodifiableSet(permittedFrequencies),
+                    Collections.unmodifiableMap(caseTypeValues),
+                    defaultCaseTypeValue);
+        }
+
+        AssessmentCriteriaDetail.CaseTypeValue getCaseTypeValue(CaseType caseType) {
+            return caseType == null ? defaultCaseTypeValue : caseTypeValues.get(caseType);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import java.math.BigDecimal;
+
+/**
+ * A child weighting of an assessment criteria period, as served from the criteria snapshot.
+ */
+public record AssessmentCriteriaChildWeighting(
+        Integer id, Integer lowerAgeRange, Integer upperAgeRange, BigDecimal weightingFactor) {}
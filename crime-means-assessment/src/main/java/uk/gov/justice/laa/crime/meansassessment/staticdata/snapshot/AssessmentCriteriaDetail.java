@@ -0,0 +1,50 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.Builder;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A criteria detail line of an assessment criteria period, as served from the criteria snapshot.
+ *
+ * @param detailCode code of the assessment detail the line records, or null if it records none
+ * @param permittedFrequencies the frequencies an amount on the line may be submitted with
+ * @param caseTypeValues the fixed amounts the line must be submitted with, by case type
+ */
+@Builder
+public record AssessmentCriteriaDetail(
+        Integer id,
+        String section,
+        Integer seq,
+        String description,
+        Boolean useFrequency,
+        String detailCode,
+        String detailDescription,
+        Set<Frequency> permittedFrequencies,
+        List<CaseTypeValue> caseTypeValues) {
+
+    public AssessmentCriteriaDetail {
+        permittedFrequencies = permittedFrequencies == null || permittedFrequencies.isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(permittedFrequencies));
+        caseTypeValues = caseTypeValues == null ? List.of() : List.copyOf(caseTypeValues);
+    }
+
+    /**
+     * The amounts and frequencies a line must be submitted with for a case type. A value without a case type applies
+     * when the assessment has none.
+     */
+    public record CaseTypeValue(
+            Integer id,
+            CaseType caseType,
+            BigDecimal applicantValue,
+            Frequency applicantFrequency,
+            BigDecimal partnerValue,
+            Frequency partnerFrequency) {}
+}
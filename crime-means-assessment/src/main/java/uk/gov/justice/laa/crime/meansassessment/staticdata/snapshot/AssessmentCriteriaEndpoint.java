@@ -0,0 +1,71 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint describing the in-memory criteria snapshot. A write operation forces the snapshot to be reloaded.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "assessmentcriteria")
+public class AssessmentCriteriaEndpoint {
+
+    private final AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @ReadOperation
+    public SnapshotDescriptor describe() {
+        return describe(assessmentCriteriaSnapshotHolder.getCurrentSnapshot());
+    }
+
+    @WriteOperation
+    public SnapshotDescriptor reload() {
+        return describe(assessmentCriteriaSnapshotHolder.reload());
+    }
+
+    private SnapshotDescriptor describe(AssessmentCriteriaSnapshot snapshot) {
+        List<PeriodDescriptor> periods = snapshot.getAssessmentCriteria().stream()
+                .map(AssessmentCriteriaEndpoint::describe)
+                .toList();
+        return new SnapshotDescriptor(
+                snapshot.getVersion(),
+                snapshot.getFingerprint(),
+                snapshot.getLoadedAt(),
+                snapshot.getLoadDuration(),
+                snapshot.getStatementCount(),
+                snapshot.getLookupHits(),
+                snapshot.getLookupMisses(),
+                periods);
+    }
+
+    private static PeriodDescriptor describe(AssessmentCriteria criteria) {
+        return new PeriodDescriptor(
+                criteria.id(),
+                criteria.dateFrom(),
+                criteria.dateTo(),
+                criteria.childWeightings().size(),
+                criteria.details().size());
+    }
+
+    public record SnapshotDescriptor(
+            String version,
+            String fingerprint,
+            Instant loadedAt,
+            Duration loadDuration,
+            int statementCount,
+            long lookupHits,
+            long lookupMisses,
+            List<PeriodDescriptor> periods) {}
+
+    public record PeriodDescriptor(
+            Integer id, LocalDateTime dateFrom, LocalDateTime dateTo, int childWeightings, int details) {}
+}
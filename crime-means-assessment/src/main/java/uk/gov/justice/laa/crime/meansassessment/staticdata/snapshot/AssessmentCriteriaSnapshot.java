@@ -0,0 +1,148 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable, in-memory copy of every assessment criteria period, indexed by the start of its
+ * effective date interval so that the period covering a given date can be resolved in O(log n).
+ * Periods and the details and child weightings they hold are records, so they are shared by every caller as they are.
+ */
+@Getter
+public class AssessmentCriteriaSnapshot {
+
+    @Getter(AccessLevel.NONE)
+    private final NavigableMap<LocalDateTime, AssessmentCriteria> criteriaByDateFrom;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, AssessmentCriteria> criteriaById;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, AssessmentCriteriaChildWeighting> childWeightingsById;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, AssessmentCriteriaDetail> detailsById;
+
+    /**
+     * Hash of the snapshot content, identical on every node that loaded the same reference data
+     */
+    private final String version;
+
+    /**
+     * Summary of the reference tables when the snapshot was loaded, compared against the database to detect changes
+     */
+    private final String fingerprint;
+
+    private final Instant loadedAt;
+    private final int statementCount;
+    private final Duration loadDuration;
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder lookupHits = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder lookupMisses = new LongAdder();
+
+    @Builder
+    public AssessmentCriteriaSnapshot(
+            Collection<AssessmentCriteria> assessmentCriteria,
+            String version,
+            String fingerprint,
+            Instant loadedAt,
+            int statementCount,
+            Duration loadDuration) {
+        TreeMap<LocalDateTime, AssessmentCriteria> index = new TreeMap<>();
+        Map<Integer, AssessmentCriteria> criteriaIndex = new HashMap<>();
+        Map<Integer, AssessmentCriteriaChildWeighting> childWeightingIndex = new HashMap<>();
+        Map<Integer, AssessmentCriteriaDetail> detailIndex = new HashMap<>();
+        for (AssessmentCriteria criteria : assessmentCriteria) {
+            index.put(criteria.dateFrom(), criteria);
+            criteriaIndex.put(criteria.id(), criteria);
+            criteria.childWeightings()
+                    .forEach(childWeighting -> childWeightingIndex.put(childWeighting.id(), childWeighting));
+            criteria.details().forEach(detail -> detailIndex.put(detail.id(), detail));
+        }
+        this.criteriaByDateFrom = Collections.unmodifiableNavigableMap(index);
+        this.criteriaById = Collections.unmodifiableMap(criteriaIndex);
+        this.childWeightingsById = Collections.unmodifiableMap(childWeightingIndex);
+        this.detailsById = Collections.unmodifiableMap(detailIndex);
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.loadedAt = loadedAt;
+        this.statementCount = statementCount;
+        this.loadDuration = loadDuration;
+    }
+
+    /**
+     * Mirrors <code>AssessmentCriteriaRepository.findAssessmentCriteriaForDate</code>: the period must start on or
+     * before the date and either be open-ended or end on or after it.
+     */
+    public Optional<AssessmentCriteria> findForDate(LocalDateTime date) {
+        Optional<AssessmentCriteria> criteria = lookup(date);
+        (criteria.isPresent() ? lookupHits : lookupMisses).increment();
+        return criteria;
+    }
+
+    private Optional<AssessmentCriteria> lookup(LocalDateTime date) {
+        if (date == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDateTime, AssessmentCriteria> entry = criteriaByDateFrom.floorEntry(date);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        AssessmentCriteria criteria = entry.getValue();
+        if (criteria.dateTo() != null && criteria.dateTo().isBefore(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(criteria);
+    }
+
+    /**
+     * Number of {@link #findForDate} calls that resolved a period since this snapshot was loaded
+     */
+    public long getLookupHits() {
+        return lookupHits.sum();
+    }
+
+    /**
+     * Number of {@link #findForDate} calls that found no period covering the date since this snapshot was loaded
+     */
+    public long getLookupMisses() {
+        return lookupMisses.sum();
+    }
+
+    public Optional<AssessmentCriteria> findById(Integer id) {
+        return Optional.ofNullable(id).map(criteriaById::get);
+    }
+
+    public Optional<AssessmentCriteriaChildWeighting> findChildWeightingById(Integer id) {
+        return Optional.ofNullable(id).map(childWeightingsById::get);
+    }
+
+    public Optional<AssessmentCriteriaDetail> findDetailById(Integer id) {
+        return Optional.ofNullable(id).map(detailsById::get);
+    }
+
+    public List<AssessmentCriteria> getAssessmentCriteria() {
+        return List.copyOf(criteriaByDateFrom.values());
+    }
+
+    public int size() {
+        return criteriaByDateFrom.size();
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.experimental.UtilityClass;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.CaseTypeAssessmentCriteriaDetailValueEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns a criteria graph read through the entities into the records a snapshot serves. The entities are only read.
+ */
+@UtilityClass
+class AssessmentCriteriaSnapshotAssembler {
+
+    /**
+     * @param frequenciesByDetailId permitted frequencies by criteria detail id, which are not mapped as an association
+     *     of the detail
+     */
+    static List<AssessmentCriteria> toAssessmentCriteria(
+            List<AssessmentCriteriaEntity> assessmentCriteria, Map<Integer, Set<Frequency>> frequenciesByDetailId) {
+        return assessmentCriteria.stream()
+                .map(criteria -> toAssessmentCriteria(criteria, frequenciesByDetailId))
+                .toList();
+    }
+
+    private static AssessmentCriteria toAssessmentCriteria(
+            AssessmentCriteriaEntity criteria, Map<Integer, Set<Frequency>> frequenciesByDetailId) {
+        return AssessmentCriteria.builder()
+                .id(criteria.getId())
+                .dateFrom(criteria.getDateFrom())
+                .dateTo(criteria.getDateTo())
+                .initialLowerThreshold(criteria.getInitialLowerThreshold())
+                .initialUpperThreshold(criteria.getInitialUpperThreshold())
+                .fullThreshold(criteria.getFullThreshold())
+                .applicantWeightingFactor(criteria.getApplicantWeightingFactor())
+                .partnerWeightingFactor(criteria.getPartnerWeightingFactor())
+                .livingAllowance(criteria.getLivingAllowance())
+                .eligibilityThreshold(criteria.getEligibilityThreshold())
+                .childWeightings(criteria.getAssessmentCriteriaChildWeightings().stream()
+                        .map(AssessmentCriteriaSnapshotAssembler::toChildWeighting)
+                        .toList())
+                .details(criteria.getAssessmentCriteriaDetails().stream()
+                        .map(detail -> toDetail(detail, frequenciesByDetailId.get(detail.getId())))
+                        .toList())
+                .build();
+    }
+
+    private static AssessmentCriteriaChildWeighting toChildWeighting(
+            AssessmentCriteriaChildWeightingEntity childWeighting) {
+        return new AssessmentCriteriaChildWeighting(
+                childWeighting.getId(),
+                childWeighting.getLowerAgeRange(),
+                childWeighting.getUpperAgeRange(),
+                childWeighting.getWeightingFactor());
+    }
+
+    private static AssessmentCriteriaDetail toDetail(
+            AssessmentCriteriaDetailEntity detail, Set<Frequency> permittedFrequencies) {
+        return AssessmentCriteriaDetail.builder()
+                .id(detail.getId())
+                .section(detail.getSection())
+                .seq(detail.getSeq())
+                .description(detail.getDescription())
+                .useFrequency(detail.getUseFrequency())
+                .detailCode(
+                        detail.getAssessmentDetail() != null
+                                ? detail.getAssessmentDetail().getDetailCode()
+                                : null)
+                .detailDescription(
+                        detail.getAssessmentDetail() != null
+                                ? detail.getAssessmentDetail().getDescription()
+                                : null)
+                .permittedFrequencies(permittedFrequencies)
+                .caseTypeValues(detail.getCaseTypeAssessmentDetailValues().stream()
+                        .map(AssessmentCriteriaSnapshotAssembler::toCaseTypeValue)
+                        .toList())
+                .build();
+    }
+
+    private static AssessmentCriteriaDetail.CaseTypeValue toCaseTypeValue(
+            CaseTypeAssessmentCriteriaDetailValueEntity value) {
+        return new AssessmentCriteriaDetail.CaseTypeValue(
+                value.getId(),
+                value.getCaseType(),
+                value.getApplicantValue(),
+                value.getApplicantFrequency(),
+                value.getPartnerValue(),
+                value.getPartnerFrequency());
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.experimental.UtilityClass;
+import uk.gov.justice.laa.crime.meansassessment.CrimeMeansAssessmentApplication;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * Entry point of the <code>exportAssessmentCriteriaSnapshot</code> Gradle task. Starts the application without a
+ * web server under the <code>snapshot-export</code> profile, so that {@link AssessmentCriteriaSnapshotExporter}
+ * writes the bundle, then closes it and exits with its exit code.
+ */
+@UtilityClass
+public class AssessmentCriteriaSnapshotExport {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(CrimeMeansAssessmentApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("snapshot-export");
+        System.exit(SpringApplication.exit(application.run(args)));
+    }
+}
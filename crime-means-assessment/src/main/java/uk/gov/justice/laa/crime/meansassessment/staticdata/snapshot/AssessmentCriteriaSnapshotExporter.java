@@ -0,0 +1,56 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the database snapshot to the bundle read by the <code>stateless</code> profile. Started by
+ * {@link AssessmentCriteriaSnapshotExport} through the <code>exportAssessmentCriteriaSnapshot</code> Gradle task.
+ */
+@Slf4j
+@Component
+@Profile("snapshot-export")
+public class AssessmentCriteriaSnapshotExporter implements ApplicationRunner {
+
+    private final AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+    private final ObjectMapper objectMapper;
+    private final Path exportPath;
+
+    public AssessmentCriteriaSnapshotExporter(
+            AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader,
+            ObjectMapper objectMapper,
+            @Value("${assessment-criteria.export.path}") Path exportPath) {
+        this.assessmentCriteriaSnapshotLoader = assessmentCriteriaSnapshotLoader;
+        this.objectMapper = objectMapper;
+        this.exportPath = exportPath;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotLoader.load();
+        AssessmentCriteriaBundle bundle = AssessmentCriteriaBundleMapper.toBundle(snapshot, Instant.now());
+        Path parent = exportPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Indented so a change to the reference data reviews as a readable diff of the committed bundle
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(exportPath.toFile(), bundle);
+        log.info(
+                "Exported {} assessment criteria periods as version {} to {}",
+                bundle.assessmentCriteria().size(),
+                bundle.version(),
+                exportPath.toAbsolutePath());
+    }
+}
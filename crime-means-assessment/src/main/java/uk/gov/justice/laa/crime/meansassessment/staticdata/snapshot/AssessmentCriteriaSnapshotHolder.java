@@ -0,0 +1,138 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Holds the current {@link AssessmentCriteriaSnapshot}. The snapshot is built once the application is ready,
+ * or on first use if a request arrives before then, and is replaced as a whole when the reference data changes.
+ * A request that has pinned a snapshot keeps using it even if a newer one is swapped in part way through.
+ */
+@Slf4j
+@Component
+public class AssessmentCriteriaSnapshotHolder {
+
+    static final String REQUEST_ATTRIBUTE = AssessmentCriteriaSnapshotHolder.class.getName() + ".SNAPSHOT";
+    static final String RELOAD_TIMER = "assessment.criteria.snapshot.reload";
+
+    private final AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+    private final MeterRegistry meterRegistry;
+
+    private volatile AssessmentCriteriaSnapshot snapshot;
+
+    public AssessmentCriteriaSnapshotHolder(
+            AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader, MeterRegistry meterRegistry) {
+        this.assessmentCriteriaSnapshotLoader = assessmentCriteriaSnapshotLoader;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("assessment.criteria.snapshot.periods", this, AssessmentCriteriaSnapshotHolder::currentSize)
+                .description("Assessment criteria periods held in the current snapshot")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        getCurrentSnapshot();
+    }
+
+    /**
+     * Returns the snapshot pinned to the current request, or the current snapshot outside of a request.
+     */
+    public AssessmentCriteriaSnapshot getSnapshot() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                        instanceof AssessmentCriteriaSnapshot pinned) {
+            return pinned;
+        }
+        return getCurrentSnapshot();
+    }
+
+    public AssessmentCriteriaSnapshot getCurrentSnapshot() {
+        AssessmentCriteriaSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load(ReloadTrigger.INITIAL);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reloads the snapshot if the reference tables no longer match the fingerprint it was loaded with.
+     *
+     * @return true if a new snapshot was swapped in
+     */
+    public synchronized boolean refreshIfChanged() {
+        AssessmentCriteriaSnapshot current = getCurrentSnapshot();
+        String fingerprint = assessmentCriteriaSnapshotLoader.readFingerprint();
+        if (fingerprint.equals(current.getFingerprint())) {
+            return false;
+        }
+        AssessmentCriteriaSnapshot refreshed = load(ReloadTrigger.SCHEDULED);
+        snapshot = refreshed;
+        log.info(
+                "Assessment criteria snapshot refreshed from version {} to version {}",
+                current.getVersion(),
+                refreshed.getVersion());
+        return true;
+    }
+
+    /**
+     * Reloads the snapshot unconditionally, for operators who need to pick up a change before the next poll.
+     */
+    public synchronized AssessmentCriteriaSnapshot reload() {
+        AssessmentCriteriaSnapshot previous = snapshot;
+        AssessmentCriteriaSnapshot reloaded = load(ReloadTrigger.FORCED);
+        snapshot = reloaded;
+        log.info(
+                "Assessment criteria snapshot reloaded on request from version {} to version {}",
+                previous != null ? previous.getVersion() : null,
+                reloaded.getVersion());
+        return reloaded;
+    }
+
+    private double currentSize() {
+        AssessmentCriteriaSnapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    private AssessmentCriteriaSnapshot load(ReloadTrigger trigger) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            AssessmentCriteriaSnapshot loaded = assessmentCriteriaSnapshotLoader.load();
+            outcome = "success";
+            return loaded;
+        } finally {
+            sample.stop(Timer.builder(RELOAD_TIMER)
+                    .description("Time taken to load the assessment criteria snapshot")
+                    .tag("trigger", trigger.getValue())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private enum ReloadTrigger {
+        INITIAL,
+        SCHEDULED,
+        FORCED;
+
+        String getValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
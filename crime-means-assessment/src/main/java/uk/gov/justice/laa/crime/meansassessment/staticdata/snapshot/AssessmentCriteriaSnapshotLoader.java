@@ -0,0 +1,14 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+/**
+ * Source of the assessment criteria reference data held in an {@link AssessmentCriteriaSnapshot}.
+ */
+public interface AssessmentCriteriaSnapshotLoader {
+
+    AssessmentCriteriaSnapshot load();
+
+    /**
+     * Summarises the current state of the source; a snapshot whose fingerprint differs from this value is stale.
+     */
+    String readFingerprint();
+}
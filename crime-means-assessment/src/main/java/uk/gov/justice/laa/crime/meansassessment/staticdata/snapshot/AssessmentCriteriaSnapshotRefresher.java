@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the reference tables on the scheduler thread and swaps in a new snapshot when they change, so request
+ * threads never wait for a reload.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "assessment-criteria.refresh", name = "enabled", havingValue = "true")
+public class AssessmentCriteriaSnapshotRefresher {
+
+    private final AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @Scheduled(
+            initialDelayString = "${assessment-criteria.refresh.interval}",
+            fixedDelayString = "${assessment-criteria.refresh.interval}")
+    public void refresh() {
+        try {
+            assessmentCriteriaSnapshotHolder.refreshIfChanged();
+        } catch (RuntimeException e) {
+            // Keep serving the current snapshot; the next poll will try again
+            log.warn("Unable to refresh the assessment criteria snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Derives a snapshot version from the content of the criteria periods rather than from when it was loaded, so that
+ * replicas holding the same reference data report the same version. Case types and frequencies are hashed by their
+ * database codes, as they are written to the bundle.
+ */
+@UtilityClass
+public class AssessmentCriteriaSnapshotVersion {
+
+    private static final int VERSION_BYTES = 8;
+
+    public static String of(Collection<AssessmentCriteria> assessmentCriteria) {
+        StringBuilder content = new StringBuilder();
+        for (AssessmentCriteria criteria : sortedById(assessmentCriteria, AssessmentCriteria::id)) {
+            append(
+                    content,
+                    "C",
+                    criteria.id(),
+                    criteria.dateFrom(),
+                    criteria.dateTo(),
+                    criteria.initialLowerThreshold(),
+                    criteria.initialUpperThreshold(),
+                    criteria.fullThreshold(),
+                    criteria.applicantWeightingFactor(),
+                    criteria.partnerWeightingFactor(),
+                    criteria.livingAllowance(),
+                    criteria.eligibilityThreshold());
+            for (AssessmentCriteriaChildWeighting childWeighting :
+                    sortedById(criteria.childWeightings(), AssessmentCriteriaChildWeighting::id)) {
+                append(
+                        content,
+                        "W",
+                        childWeighting.id(),
+                        childWeighting.lowerAgeRange(),
+                        childWeighting.upperAgeRange(),
+                        childWeighting.weightingFactor());
+            }
+            for (AssessmentCriteriaDetail detail : sortedById(criteria.details(), AssessmentCriteriaDetail::id)) {
+                append(
+                        content,
+                        "D",
+                        detail.id(),
+                        detail.section(),
+                        detail.seq(),
+                        detail.description(),
+                        detail.useFrequency(),
+                        detail.detailCode(),
+                        AssessmentCriteriaBundleMapper.toCodes(detail.permittedFrequencies()));
+                for (AssessmentCriteriaDetail.CaseTypeValue value :
+                        sortedById(detail.caseTypeValues(), AssessmentCriteriaDetail.CaseTypeValue::id)) {
+                    append(
+                            content,
+                            "V",
+                            value.id(),
+                            AssessmentCriteriaBundleMapper.toCode(value.caseType()),
+                            value.applicantValue(),
+                            value.partnerValue(),
+                            AssessmentCriteriaBundleMapper.toCode(value.applicantFrequency()),
+                            AssessmentCriteriaBundleMapper.toCode(value.partnerFrequency()));
+                }
+            }
+        }
+        return HexFormat.of().formatHex(sha256(content.toString()), 0, VERSION_BYTES);
+    }
+
+    private static <T> List<T> sortedById(Collection<T> values, Function<T, Integer> id) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .sorted(Comparator.comparing(id, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    private static void append(StringBuilder content, String type, Object... values) {
+        content.append(type);
+        for (Object value : values) {
+            content.append(';');
+            // Scale can differ between drivers for the same numeric value
+            content.append(value instanceof BigDecimal decimal ? decimal.stripTrailingZeros().toPlainString() : value);
+        }
+        content.append('\n');
+    }
+
+    private static byte[] sha256(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
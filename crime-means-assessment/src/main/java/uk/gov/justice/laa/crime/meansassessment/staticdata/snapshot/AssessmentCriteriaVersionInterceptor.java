@@ -0,0 +1,42 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.enums.LoggingData;
+
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Pins the current criteria snapshot to the request and tags the response and log lines with its version.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssessmentCriteriaVersionInterceptor implements HandlerInterceptor {
+
+    public static final String VERSION_HEADER = "X-Assessment-Criteria-Version";
+
+    private final AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotHolder.getCurrentSnapshot();
+        request.setAttribute(AssessmentCriteriaSnapshotHolder.REQUEST_ATTRIBUTE, snapshot);
+        response.setHeader(VERSION_HEADER, snapshot.getVersion());
+        MDC.put(LoggingData.CRITERIA_VERSION.getValue(), snapshot.getVersion());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            Exception ex) {
+        MDC.remove(LoggingData.CRITERIA_VERSION.getValue());
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Loads the criteria snapshot from the bundle written by {@link AssessmentCriteriaSnapshotExporter}, so the
+ * stateless engine can run without a datasource.
+ */
+@Slf4j
+@Component
+@Profile("stateless")
+public class BundledAssessmentCriteriaSnapshotLoader implements AssessmentCriteriaSnapshotLoader {
+
+    private final ObjectMapper objectMapper;
+    private final Resource bundle;
+
+    public BundledAssessmentCriteriaSnapshotLoader(
+            ObjectMapper objectMapper, @Value("${assessment-criteria.bundle.location}") Resource bundle) {
+        this.objectMapper = objectMapper;
+        this.bundle = bundle;
+    }
+
+    @Override
+    public AssessmentCriteriaSnapshot load() {
+        long start = System.nanoTime();
+        AssessmentCriteriaBundle assessmentCriteriaBundle = readBundle();
+        if (assessmentCriteriaBundle.formatVersion() != AssessmentCriteriaBundle.FORMAT_VERSION) {
+            throw new IllegalStateException(String.format(
+                    "Unsupported assessment criteria bundle format %d in %s",
+                    assessmentCriteriaBundle.formatVersion(), bundle.getDescription()));
+        }
+        List<AssessmentCriteria> assessmentCriteria =
+                AssessmentCriteriaBundleMapper.toAssessmentCriteria(assessmentCriteriaBundle);
+        String version = AssessmentCriteriaSnapshotVersion.of(assessmentCriteria);
+        if (!version.equals(assessmentCriteriaBundle.version())) {
+            throw new IllegalStateException(String.format(
+                    "Assessment criteria bundle %s declares version %s but its content hashes to %s",
+                    bundle.getDescription(), assessmentCriteriaBundle.version(), version));
+        }
+        Duration loadDuration = Duration.ofNanos(System.nanoTime() - start);
+        log.info(
+                "Loaded {} assessment criteria periods as version {} from {} exported at {}",
+                assessmentCriteria.size(),
+                version,
+                bundle.getDescription(),
+                assessmentCriteriaBundle.exportedAt());
+        return AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(assessmentCriteria)
+                .version(version)
+                .fingerprint(version)
+                .loadedAt(Instant.now())
+                .loadDuration(loadDuration)
+                .build();
+    }
+
+    // The bundle is fixed at build time, so its version doubles as the fingerprint and a refresh never reloads
+    @Override
+    public String readFingerprint() {
+        return readBundle().version();
+    }
+
+    private AssessmentCriteriaBundle readBundle() {
+        try (InputStream inputStream = bundle.getInputStream()) {
+            return objectMapper.readValue(inputStream, AssessmentCriteriaBundle.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read assessment criteria bundle " + bundle.getDescription(), e);
+        }
+    }
+}
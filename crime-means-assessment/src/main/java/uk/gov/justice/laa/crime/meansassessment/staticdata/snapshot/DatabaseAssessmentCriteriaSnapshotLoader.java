@@ -0,0 +1,173 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads every assessment criteria period with its child weightings, details, case type values and permitted
+ * frequencies using a fixed number of queries, independent of how many periods exist.
+ */
+@Slf4j
+@Component
+@Profile("!stateless")
+@RequiredArgsConstructor
+public class DatabaseAssessmentCriteriaSnapshotLoader implements AssessmentCriteriaSnapshotLoader {
+
+    private static final String CRITERIA_WITH_CHILD_WEIGHTINGS =
+            "select c from AssessmentCriteriaEntity c left join fetch c.assessmentCriteriaChildWeightings";
+    private static final String CRITERIA_WITH_DETAILS = "select c from AssessmentCriteriaEntity c"
+            + " left join fetch c.assessmentCriteriaDetails d left join fetch d.assessmentDetail";
+    private static final String DETAILS_WITH_CASE_TYPE_VALUES =
+            "select d from AssessmentCriteriaDetailEntity d left join fetch d.caseTypeAssessmentDetailValues";
+    private static final String DETAIL_FREQUENCIES =
+            "select f.assessmentCriteriaDetail.id, f.frequency from AssessmentCriteriaDetailFrequencyEntity f";
+
+    // Every value column of each reference table, in id order. The fingerprint hashes these rows rather than
+    // relying on audit timestamps, so an update that does not touch date_modified still changes it
+    private static final List<String> FINGERPRINT_QUERIES = List.of(
+            "select e.id, e.dateFrom, e.dateTo, e.initialLowerThreshold, e.initialUpperThreshold, e.fullThreshold,"
+                    + " e.applicantWeightingFactor, e.partnerWeightingFactor, e.livingAllowance,"
+                    + " e.eligibilityThreshold from AssessmentCriteriaEntity e order by e.id",
+            "select e.id, e.assessmentCriteria.id, e.lowerAgeRange, e.upperAgeRange, e.weightingFactor"
+                    + " from AssessmentCriteriaChildWeightingEntity e order by e.id",
+            "select e.id, e.assessmentCriteria.id, e.assessmentDetail.detailCode, e.section, e.seq, e.description,"
+                    + " e.useFrequency from AssessmentCriteriaDetailEntity e order by e.id",
+            "select e.id, e.assessmentCriteriaDetail.id, e.caseType, e.applicantValue, e.partnerValue,"
+                    + " e.applicantFrequency, e.partnerFrequency"
+                    + " from CaseTypeAssessmentCriteriaDetailValueEntity e order by e.id",
+            "select e.id, e.assessmentCriteriaDetail.id, e.frequency"
+                    + " from AssessmentCriteriaDetailFrequencyEntity e order by e.id");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public AssessmentCriteriaSnapshot load() {
+        AtomicInteger statementCount = new AtomicInteger();
+        long start = System.nanoTime();
+        List<AssessmentCriteria> assessmentCriteria;
+        String fingerprint;
+        try (Session session = openSession(sql -> {
+            statementCount.incrementAndGet();
+            return sql;
+        })) {
+            session.beginTransaction();
+            try {
+                // Read before the data so that a change committed part way through the load is picked up by
+                // the next refresh rather than masked by a fingerprint that already includes it
+                fingerprint = readFingerprint(session);
+                // Each query initialises one level of the graph for every period; later queries resolve the
+                // many-to-one references from entities already in the session rather than selecting them again
+                List<AssessmentCriteriaEntity> criteria = session.createQuery(
+                                CRITERIA_WITH_CHILD_WEIGHTINGS, AssessmentCriteriaEntity.class)
+                        .getResultList();
+                session.createQuery(CRITERIA_WITH_DETAILS, AssessmentCriteriaEntity.class)
+                        .getResultList();
+                session.createQuery(DETAILS_WITH_CASE_TYPE_VALUES, AssessmentCriteriaDetailEntity.class)
+                        .getResultList();
+                assessmentCriteria = AssessmentCriteriaSnapshotAssembler.toAssessmentCriteria(
+                        criteria, loadPermittedFrequencies(session));
+            } finally {
+                session.getTransaction().rollback();
+            }
+        }
+        Duration loadDuration = Duration.ofNanos(System.nanoTime() - start);
+        String version = AssessmentCriteriaSnapshotVersion.of(assessmentCriteria);
+        log.info(
+                "Loaded {} assessment criteria periods as version {} in {} ms using {} statements",
+                assessmentCriteria.size(),
+                version,
+                loadDuration.toMillis(),
+                statementCount.get());
+        return AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(assessmentCriteria)
+                .version(version)
+                .fingerprint(fingerprint)
+                .loadedAt(Instant.now())
+                .statementCount(statementCount.get())
+                .loadDuration(loadDuration)
+                .build();
+    }
+
+    @Override
+    public String readFingerprint() {
+        try (Session session = openSession(sql -> sql)) {
+            session.beginTransaction();
+            try {
+                return readFingerprint(session);
+            } finally {
+                session.getTransaction().rollback();
+            }
+        }
+    }
+
+    private Session openSession(StatementInspector statementInspector) {
+        Session session = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .withOptions()
+                .statementInspector(statementInspector)
+                .openSession();
+        session.setDefaultReadOnly(true);
+        return session;
+    }
+
+    private static String readFingerprint(Session session) {
+        MessageDigest digest = sha256();
+        for (String query : FINGERPRINT_QUERIES) {
+            for (Object[] row : session.createQuery(query, Object[].class).getResultList()) {
+                for (Object value : row) {
+                    // Scale can differ between drivers for the same numeric value
+                    String column = value instanceof BigDecimal decimal
+                            ? decimal.stripTrailingZeros().toPlainString()
+                            : String.valueOf(value);
+                    digest.update(column.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) ';');
+                }
+                digest.update((byte) '\n');
+            }
+            digest.update((byte) '|');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Map<Integer, Set<Frequency>> loadPermittedFrequencies(Session session) {
+        Map<Integer, Set<Frequency>> frequenciesByDetailId = new HashMap<>();
+        for (Object[] row : session.createQuery(DETAIL_FREQUENCIES, Object[].class).getResultList()) {
+            frequenciesByDetailId
+                    .computeIfAbsent((Integer) row[0], id -> EnumSet.noneOf(Frequency.class))
+                    .add((Frequency) row[1]);
+        }
+        return frequenciesByDetailId;
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constants derived from one assessment criteria period. They are brought to the standard scale and multiplied out
+ * once, when the period is built, so an assessment only has to add the terms that depend on the applicant's children.
+ *
+ * <p>Both partner variants are prepared. An assessment picks one with {@link #weightingsFor}, so the partner
+ * weighting factor is left out without changing the period.
+ *
+ * @param childWeightingFactors unscaled child weighting factors by child weighting id; the weighted total is only
+ *     rounded once the number of children is known
+ */
+public record ScaledAssessmentCriteria(
+        Weightings withPartner, Weightings withoutPartner, Map<Integer, BigDecimal> childWeightingFactors) {
+
+    public static ScaledAssessmentCriteria of(
+            BigDecimal applicantWeightingFactor,
+            BigDecimal partnerWeightingFactor,
+            BigDecimal livingAllowance,
+            List<AssessmentCriteriaChildWeighting> childWeightings) {
+        Map<Integer, BigDecimal> childWeightingFactors = new HashMap<>();
+        for (AssessmentCriteriaChildWeighting childWeighting : childWeightings) {
+            childWeightingFactors.put(childWeighting.id(), childWeighting.weightingFactor());
+        }
+        return new ScaledAssessmentCriteria(
+                Weightings.of(applicantWeightingFactor, partnerWeightingFactor, livingAllowance),
+                Weightings.of(applicantWeightingFactor, BigDecimal.ZERO, livingAllowance),
+                Collections.unmodifiableMap(childWeightingFactors));
+    }
+
+    /**
+     * The weightings to assess with. The partner weighting factor only counts when there is a partner and they have
+     * no contrary interest.
+     */
+    public Weightings weightingsFor(boolean hasPartner, boolean partnerContraryInterest) {
+        return hasPartner && !partnerContraryInterest ? withPartner : withoutPartner;
+    }
+
+    /**
+     * @param householdWeighting the applicant weighting factor plus the partner weighting factor, each at the
+     *     standard scale
+     * @param livingAllowance the living allowance at the standard scale
+     * @param householdLivingAllowance the living allowance multiplied by the household weighting, unrounded
+     */
+    public record Weightings(
+            BigDecimal householdWeighting, BigDecimal livingAllowance, BigDecimal householdLivingAllowance) {
+
+        public static Weightings of(
+                BigDecimal applicantWeightingFactor, BigDecimal partnerWeightingFactor, BigDecimal livingAllowance) {
+            BigDecimal householdWeighting =
+                    setStandardScale(applicantWeightingFactor).add(setStandardScale(partnerWeightingFactor));
+            BigDecimal scaledLivingAllowance = setStandardScale(livingAllowance);
+            return new Weightings(
+                    householdWeighting, scaledLivingAllowance, scaledLivingAllowance.multiply(householdWeighting));
+        }
+    }
+}
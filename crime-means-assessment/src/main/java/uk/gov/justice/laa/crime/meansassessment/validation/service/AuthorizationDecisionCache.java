@@ -0,0 +1,93 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers which role actions and new work reasons a caseworker has been granted, so repeated creates and updates
+ * by the same user do not ask the Court Data API again. Off unless
+ * {@code means-assessment.authorization-cache.enabled} is set.
+ *
+ * <p>Only grants are kept: a refusal is looked up every time, so access given to a user takes effect on their next
+ * request, while access withdrawn lasts at most {@code expire-after-write} unless {@link #invalidate(String)} is
+ * called. Reservations and outstanding assessments change with every request and never go through this cache.
+ */
+@Component
+public class AuthorizationDecisionCache implements MeterBinder {
+
+    static final String CACHE_NAME = "means.assessment.authorization.decisions";
+
+    private final Cache<Decision, Boolean> grants;
+
+    public AuthorizationDecisionCache(
+            @Value("${means-assessment.authorization-cache.enabled:false}") boolean enabled,
+            @Value("${means-assessment.authorization-cache.maximum-size:1000}") long maximumSize,
+            @Value("${means-assessment.authorization-cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.grants = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public boolean isRoleActionGranted(String username, String action, BooleanSupplier lookup) {
+        return isGranted(new Decision(DecisionType.ROLE_ACTION, username, action), lookup);
+    }
+
+    public boolean isNewWorkReasonGranted(String username, String newWorkReason, BooleanSupplier lookup) {
+        return isGranted(new Decision(DecisionType.NEW_WORK_REASON, username, newWorkReason), lookup);
+    }
+
+    public void invalidate(String username) {
+        if (grants != null) {
+            grants.asMap().keySet().removeIf(decision -> Objects.equals(decision.username(), username));
+        }
+    }
+
+    public void invalidateAll() {
+        if (grants != null) {
+            grants.invalidateAll();
+        }
+    }
+
+    private boolean isGranted(Decision decision, BooleanSupplier lookup) {
+        if (grants == null) {
+            return lookup.getAsBoolean();
+        }
+        if (grants.getIfPresent(decision) != null) {
+            return true;
+        }
+        boolean granted = lookup.getAsBoolean();
+        if (granted) {
+            grants.put(decision, Boolean.TRUE);
+        }
+        return granted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (grants != null) {
+            CaffeineCacheMetrics.monitor(registry, grants, CACHE_NAME);
+        }
+    }
+
+    private enum DecisionType {
+        ROLE_ACTION,
+        NEW_WORK_REASON
+    }
+
+    private record Decision(DecisionType type, String username, String code) {}
+}
@@ -0,0 +1,31 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.service;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint that drops remembered authorization grants, so access withdrawn from a caseworker takes effect on
+ * their next request instead of when the grant expires. Deleting the endpoint drops every grant; deleting
+ * {@code /{username}} drops that user's.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "authorizationcache")
+public class AuthorizationDecisionCacheEndpoint {
+
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+
+    @DeleteOperation
+    public void invalidateAll() {
+        authorizationDecisionCache.invalidateAll();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector String username) {
+        authorizationDecisionCache.invalidate(username);
+    }
+}
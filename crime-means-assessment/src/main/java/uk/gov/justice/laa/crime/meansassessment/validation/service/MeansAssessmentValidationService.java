@@ -23,26 +23,31 @@ public class MeansAssessmentValidationService {
 
     private final MaatCourtDataService maatCourtDataService;
     private final MaatCourtDataApiClient maatCourtDataApiClient;
+    private final AuthorizationDecisionCache authorizationDecisionCache;
 
     String getUserIdFromRequest(MeansAssessmentRequestDTO meansAssessmentRequest) {
         return meansAssessmentRequest.getUserSession().getUserName();
     }
 
     public boolean isRoleActionValid(final MeansAssessmentRequestDTO meansAssessmentRequest, String action) {
-        if (StringUtils.isNotBlank(getUserIdFromRequest(meansAssessmentRequest)) && StringUtils.isNotBlank(action)) {
-            AuthorizationResponseDTO apiResponse =
-                    maatCourtDataApiClient.getUserRoleAction(getUserIdFromRequest(meansAssessmentRequest), action);
-            return apiResponse.isResult();
+        String username = getUserIdFromRequest(meansAssessmentRequest);
+        if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(action)) {
+            return authorizationDecisionCache.isRoleActionGranted(username, action, () -> {
+                AuthorizationResponseDTO apiResponse = maatCourtDataApiClient.getUserRoleAction(username, action);
+                return apiResponse.isResult();
+            });
         }
         return false;
     }
 
     public boolean isNewWorkReasonValid(final MeansAssessmentRequestDTO meansAssessmentRequest) {
         if (meansAssessmentRequest.getNewWorkReason() != null) {
-            AuthorizationResponseDTO apiResponse = maatCourtDataApiClient.getNewWorkReason(
-                    getUserIdFromRequest(meansAssessmentRequest),
-                    meansAssessmentRequest.getNewWorkReason().getCode());
-            return apiResponse.isResult();
+            String username = getUserIdFromRequest(meansAssessmentRequest);
+            String newWorkReason = meansAssessmentRequest.getNewWorkReason().getCode();
+            return authorizationDecisionCache.isNewWorkReasonGranted(username, newWorkReason, () -> {
+                AuthorizationResponseDTO apiResponse = maatCourtDataApiClient.getNewWorkReason(username, newWorkReason);
+                return apiResponse.isResult();
+            });
         }
         return false;
     }
@@ -1,7 +1,11 @@
 package uk.gov.justice.laa.crime.meansassessment.validation.validator;
 
 import static uk.gov.justice.laa.crime.meansassessment.common.Constants.ACTION_CREATE_ASSESSMENT;
+import static uk.gov.justice.laa.crime.meansassessment.config.CourtDataExecutorConfiguration.COURT_DATA_EXECUTOR;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.enums.AssessmentType;
@@ -9,20 +13,33 @@ import uk.gov.justice.laa.crime.enums.RequestType;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
 import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
 import uk.gov.justice.laa.crime.meansassessment.validation.service.MeansAssessmentValidationService;
+import uk.gov.justice.laa.crime.meansassessment.validation.validator.ValidationRule.Cost;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MeansAssessmentValidationProcessor {
+public class MeansAssessmentValidationProcessor implements MeterBinder {
+
+    static final String AVOIDED_REMOTE_CALLS_COUNTER = "means.assessment.validation.remote.calls.avoided";
 
     private final InitAssessmentValidator initAssessmentValidator;
     private final FullAssessmentValidator fullAssessmentValidator;
     private final MeansAssessmentValidationService meansAssessmentValidationService;
 
+    @Qualifier(COURT_DATA_EXECUTOR)
+    private final AsyncTaskExecutor courtDataExecutor;
+
+    private final LongAdder avoidedRemoteCalls = new LongAdder();
+
     public static final String MSG_REP_ID_REQUIRED = "Rep Id is missing from request and is required";
     public static final String MSG_ROLE_ACTION_IS_NOT_VALID = "Role action is not valid";
     public static final String MSG_NEW_WORK_REASON_IS_NOT_VALID = "New work reason is not valid";
@@ -41,31 +58,73 @@ public class MeansAssessmentValidationProcessor {
 
     public Optional<Void> validate(MeansAssessmentRequestDTO requestDTO, RequestType requestType) {
         log.info("Validating means assessment request : {}", requestDTO.getRepId());
-        if (!isRepIdValid(requestDTO)) {
-            throw new ValidationException(MSG_REP_ID_REQUIRED);
-        } else if (!meansAssessmentValidationService.isRoleActionValid(requestDTO, ACTION_CREATE_ASSESSMENT)) {
-            throw new ValidationException(MSG_ROLE_ACTION_IS_NOT_VALID);
-        } else if (!meansAssessmentValidationService.isRepOrderReserved(requestDTO)) {
-            throw new ValidationException(MSG_RECORD_NOT_RESERVED_BY_CURRENT_USER);
+        List<ValidationRule> rules = rules(requestDTO, requestType);
+
+        // A failed local rule is only reported once every rule declared before it has passed, so only the remote
+        // rules after it can be skipped
+        int failedLocalRule = firstFailedLocalRule(rules);
+        OrderedChecks remoteChecks = new OrderedChecks(courtDataExecutor);
+        for (ValidationRule rule : rules.subList(0, failedLocalRule)) {
+            if (rule.cost() == Cost.REMOTE) {
+                remoteChecks.add(rule.check(), rule.failureMessage());
+            }
+        }
+        if (failedLocalRule < rules.size()) {
+            avoidedRemoteCalls.add(rules.subList(failedLocalRule + 1, rules.size()).stream()
+                    .filter(rule -> rule.cost() == Cost.REMOTE)
+                    .count());
         }
 
-        if (RequestType.CREATE.equals(requestType)
-                && meansAssessmentValidationService.isOutstandingAssessment(requestDTO)) {
-            throw new ValidationException(MSG_INCOMPLETE_ASSESSMENT_FOUND);
+        remoteChecks.verify();
+        if (failedLocalRule < rules.size()) {
+            throw new ValidationException(rules.get(failedLocalRule).failureMessage());
         }
+        return Optional.empty();
+    }
 
-        if (AssessmentType.INIT.equals(requestDTO.getAssessmentType())) {
-            if (!meansAssessmentValidationService.isNewWorkReasonValid(requestDTO)) {
-                throw new ValidationException(MSG_NEW_WORK_REASON_IS_NOT_VALID);
-            } else if (!initAssessmentValidator.validate(requestDTO)) {
-                throw new ValidationException(MSG_INCORRECT_REVIEW_TYPE);
+    private static int firstFailedLocalRule(List<ValidationRule> rules) {
+        for (int i = 0; i < rules.size(); i++) {
+            ValidationRule rule = rules.get(i);
+            if (rule.cost() == Cost.LOCAL && !rule.check().getAsBoolean()) {
+                return i;
             }
+        }
+        return rules.size();
+    }
+
+    // A failure earlier in this list takes precedence over a later one, whatever the cost of either rule
+    private List<ValidationRule> rules(MeansAssessmentRequestDTO requestDTO, RequestType requestType) {
+        List<ValidationRule> rules = new ArrayList<>();
+        rules.add(ValidationRule.local(() -> isRepIdValid(requestDTO), MSG_REP_ID_REQUIRED));
+        rules.add(ValidationRule.remote(
+                () -> meansAssessmentValidationService.isRoleActionValid(requestDTO, ACTION_CREATE_ASSESSMENT),
+                MSG_ROLE_ACTION_IS_NOT_VALID));
+        rules.add(ValidationRule.remote(
+                () -> meansAssessmentValidationService.isRepOrderReserved(requestDTO),
+                MSG_RECORD_NOT_RESERVED_BY_CURRENT_USER));
+        if (RequestType.CREATE.equals(requestType)) {
+            rules.add(ValidationRule.remote(
+                    () -> !meansAssessmentValidationService.isOutstandingAssessment(requestDTO),
+                    MSG_INCOMPLETE_ASSESSMENT_FOUND));
+        }
+        if (AssessmentType.INIT.equals(requestDTO.getAssessmentType())) {
+            rules.add(ValidationRule.remote(
+                    () -> meansAssessmentValidationService.isNewWorkReasonValid(requestDTO),
+                    MSG_NEW_WORK_REASON_IS_NOT_VALID));
+            rules.add(ValidationRule.local(
+                    () -> initAssessmentValidator.validate(requestDTO), MSG_INCORRECT_REVIEW_TYPE));
         } else {
-            if (!fullAssessmentValidator.validate(requestDTO)) {
-                throw new ValidationException(MSG_FULL_ASSESSMENT_DATE_REQUIRED);
-            }
+            rules.add(ValidationRule.local(
+                    () -> fullAssessmentValidator.validate(requestDTO), MSG_FULL_ASSESSMENT_DATE_REQUIRED));
         }
-        return Optional.empty();
+        return rules;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(AVOIDED_REMOTE_CALLS_COUNTER, avoidedRemoteCalls, LongAdder::sum)
+                .description("Court Data API validation calls skipped because a local rule failed")
+                .register(registry);
     }
 
     boolean isRepIdValid(final MeansAssessmentRequestDTO meansAssessmentRequest) {
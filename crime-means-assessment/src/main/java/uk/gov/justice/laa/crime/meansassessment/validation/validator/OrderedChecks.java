@@ -0,0 +1,96 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.validator;
+
+import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentProcessingException;
+import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs pass/fail checks concurrently but reports them as if they had run one after another: the failure surfaced is
+ * always that of the earliest check added, whichever finishes first. Once a check fails, the checks added after it
+ * can no longer change the outcome and are cancelled.
+ */
+final class OrderedChecks {
+
+    private final Executor executor;
+    private final List<Check> checks = new ArrayList<>();
+
+    OrderedChecks(Executor executor) {
+        this.executor = executor;
+    }
+
+    OrderedChecks add(BooleanSupplier check, String failureMessage) {
+        checks.add(new Check(check, failureMessage));
+        return this;
+    }
+
+    void verify() {
+        CompletionService<Boolean> completions = new ExecutorCompletionService<>(executor);
+        List<Future<Boolean>> futures = new ArrayList<>(checks.size());
+        checks.forEach(check -> futures.add(completions.submit(check.check()::getAsBoolean)));
+        boolean[] passed = new boolean[checks.size()];
+        int firstFailed = checks.size();
+        RuntimeException failure = null;
+        try {
+            for (int completed = 0; completed < checks.size(); completed++) {
+                Future<Boolean> future = completions.take();
+                int index = futures.indexOf(future);
+                if (index > firstFailed || future.isCancelled()) {
+                    continue;
+                }
+                RuntimeException checkFailure = failureOf(checks.get(index), future);
+                if (checkFailure == null) {
+                    passed[index] = true;
+                } else {
+                    firstFailed = index;
+                    failure = checkFailure;
+                    cancel(futures.subList(index + 1, futures.size()));
+                }
+                if (failure != null && allPassed(passed, firstFailed)) {
+                    throw failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssessmentProcessingException("Interrupted waiting for validation checks", e);
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    private static RuntimeException failureOf(Check check, Future<Boolean> future) throws InterruptedException {
+        try {
+            return Boolean.TRUE.equals(future.get()) ? null : new ValidationException(check.failureMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            return new AssessmentProcessingException(e.getCause());
+        }
+    }
+
+    private static boolean allPassed(boolean[] passed, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!passed[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void cancel(List<Future<Boolean>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private record Check(BooleanSupplier check, String failureMessage) {}
+}
@@ -0,0 +1,26 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.validator;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A single pass/fail check on a means assessment request, with the message reported when it fails and what it costs
+ * to run. Local rules are evaluated first, so a request that fails one does not wait on the Court Data API for the
+ * remote rules declared after it.
+ */
+record ValidationRule(Cost cost, BooleanSupplier check, String failureMessage) {
+
+    enum Cost {
+        /** Inspects the request only. */
+        LOCAL,
+        /** Needs a Court Data API round trip. */
+        REMOTE
+    }
+
+    static ValidationRule local(BooleanSupplier check, String failureMessage) {
+        return new ValidationRule(Cost.LOCAL, check, failureMessage);
+    }
+
+    static ValidationRule remote(BooleanSupplier check, String failureMessage) {
+        return new ValidationRule(Cost.REMOTE, check, failureMessage);
+    }
+}
@@ -37,7 +37,7 @@ class MaatCourtDataAssessmentBuilderTest {
                             .getAssessmentType()
                             .getType());
             assertThat(resultDto.getInitialAscrId())
-                    .isEqualTo(assessmentDTO.getAssessmentCriteria().getId());
+                    .isEqualTo(assessmentDTO.getAssessmentCriteria().id());
             assertThat(resultDto.getInitialAssessmentDate())
                     .isEqualTo(assessmentDTO.getMeansAssessment().getInitialAssessmentDate());
             assertThat(resultDto.getInitOtherBenefitNote())
@@ -105,7 +105,7 @@ class MaatCourtDataAssessmentBuilderTest {
         if (AssessmentType.FULL.equals(AssessmentType.getFrom(resultDto.getAssessmentType()))) {
             updateRequirements = updateRequest -> {
                 assertThat(updateRequest.getFullAscrId())
-                        .isEqualTo(assessmentDTO.getAssessmentCriteria().getId());
+                        .isEqualTo(assessmentDTO.getAssessmentCriteria().id());
                 assertThat(updateRequest.getFullAssessmentDate())
                         .isEqualTo(assessmentDTO.getMeansAssessment().getFullAssessmentDate());
                 assertThat(updateRequest.getFassFullStatus())
@@ -7,7 +7,7 @@ import uk.gov.justice.laa.crime.common.model.meansassessment.maatapi.MaatApiAsse
 import uk.gov.justice.laa.crime.enums.AssessmentType;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +16,7 @@ import org.junit.jupiter.api.Test;
 class MeansAssessmentResponseBuilderTest {
 
     private final MeansAssessmentResponseBuilder responseBuilder = new MeansAssessmentResponseBuilder();
-    private final AssessmentCriteriaEntity assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaEntity();
+    private final AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteria();
     private MeansAssessmentDTO completedAssessment;
     private MaatApiAssessmentResponse maatApiAssessmentResponse;
 
@@ -31,9 +31,9 @@ class MeansAssessmentResponseBuilderTest {
             assertThat(response.getAssessmentId()).isEqualTo(maatApiAssessmentResponse.getId());
             assertThat(response.getRepId())
                     .isEqualTo(completedAssessment.getMeansAssessment().getRepId());
-            assertThat(response.getCriteriaId()).isEqualTo(assessmentCriteria.getId());
-            assertThat(response.getLowerThreshold()).isEqualTo(assessmentCriteria.getInitialLowerThreshold());
-            assertThat(response.getUpperThreshold()).isEqualTo(assessmentCriteria.getInitialUpperThreshold());
+            assertThat(response.getCriteriaId()).isEqualTo(assessmentCriteria.id());
+            assertThat(response.getLowerThreshold()).isEqualTo(assessmentCriteria.initialLowerThreshold());
+            assertThat(response.getUpperThreshold()).isEqualTo(assessmentCriteria.initialUpperThreshold());
             assertThat(response.getTotalAggregatedIncome()).isEqualTo(completedAssessment.getTotalAggregatedIncome());
             assertThat(response.getInitResult()).isEqualTo(maatApiAssessmentResponse.getInitResult());
             assertThat(response.getInitResultReason()).isEqualTo(maatApiAssessmentResponse.getInitResultReason());
@@ -66,7 +66,7 @@ class MeansAssessmentResponseBuilderTest {
                     .isEqualTo(completedAssessment.getAdjustedLivingAllowance());
             assertThat(response.getTotalAnnualDisposableIncome())
                     .isEqualTo(completedAssessment.getTotalAnnualDisposableIncome());
-            assertThat(response.getFullThreshold()).isEqualTo(assessmentCriteria.getFullThreshold());
+            assertThat(response.getFullThreshold()).isEqualTo(assessmentCriteria.fullThreshold());
             assertThat(response.getTotalAggregatedExpense()).isEqualTo(completedAssessment.getTotalAggregatedExpense());
             assertThat(response.getFullResult())
                     .isEqualTo(completedAssessment.getFullAssessmentResult().getResult());
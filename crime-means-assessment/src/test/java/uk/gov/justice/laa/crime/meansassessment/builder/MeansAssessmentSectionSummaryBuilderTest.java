@@ -22,7 +22,7 @@ import uk.gov.justice.laa.crime.enums.ReviewType;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.dto.AssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.enums.Section;
 
 import java.math.BigDecimal;
@@ -216,7 +216,7 @@ class MeansAssessmentSectionSummaryBuilderTest {
     void givenValidAssessmentCriteriaDetail_whenBuildAssessmentDTOInvoked_shouldReturnAssessment() {
 
         AssessmentDTO assessmentDTO = meansAssessmentSectionSummaryBuilder.buildAssessmentDTO(
-                TestModelDataBuilder.getAssessmentCriteriaDetailEntity(TEST_SECTION),
+                TestModelDataBuilder.getAssessmentCriteriaDetail(TEST_SECTION),
                 TestModelDataBuilder.getAssessmentDetailsWithoutList());
 
         assertThat(assessmentDTO.getCriteriaDetailId()).isEqualTo(TestModelDataBuilder.TEST_ASSESSMENT_DETAILS_ID);
@@ -264,10 +264,9 @@ class MeansAssessmentSectionSummaryBuilderTest {
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.INITA.name(), AssessmentType.INIT));
         assessmentSectionSummaryList.add(
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.FULLA.name(), AssessmentType.FULL));
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildInitialAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getInitialAssessment()).isEqualTo(expectedInitAssessment);
     }
 
@@ -279,10 +278,9 @@ class MeansAssessmentSectionSummaryBuilderTest {
         FinancialAssessmentDTO financialAssessmentDTO = TestModelDataBuilder.getFinancialAssessmentDTO(
                 null, NewWorkReason.HR.getCode(), ReviewType.NAFI.getCode());
         List<ApiAssessmentSectionSummary> assessmentSectionSummaryList = new ArrayList<>();
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildInitialAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getInitialAssessment().getAssessmentStatus()).isNull();
     }
 
@@ -294,10 +292,9 @@ class MeansAssessmentSectionSummaryBuilderTest {
         FinancialAssessmentDTO financialAssessmentDTO = TestModelDataBuilder.getFinancialAssessmentDTO(
                 CurrentStatus.IN_PROGRESS.getStatus(), null, ReviewType.NAFI.getCode());
         List<ApiAssessmentSectionSummary> assessmentSectionSummaryList = new ArrayList<>();
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildInitialAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getInitialAssessment().getNewWorkReason()).isNull();
     }
 
@@ -309,24 +306,23 @@ class MeansAssessmentSectionSummaryBuilderTest {
         FinancialAssessmentDTO financialAssessmentDTO = TestModelDataBuilder.getFinancialAssessmentDTO(
                 CurrentStatus.IN_PROGRESS.getStatus(), NewWorkReason.HR.getCode(), null);
         List<ApiAssessmentSectionSummary> assessmentSectionSummaryList = new ArrayList<>();
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildInitialAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getInitialAssessment().getReviewType()).isNull();
     }
 
     @Test
-    void givenEmptyAssessmentCriteriaEntity_whenBuildInitialAssessmentInvoked_shouldNotReturnThreshold() {
+    void givenEmptyAssessmentCriteria_whenBuildInitialAssessmentInvoked_shouldNotReturnThreshold() {
 
         ApiGetMeansAssessmentResponse response = new ApiGetMeansAssessmentResponse();
         response.setInitialAssessment(new ApiInitialMeansAssessment());
         FinancialAssessmentDTO financialAssessmentDTO = TestModelDataBuilder.getFinancialAssessmentDTO(
                 CurrentStatus.IN_PROGRESS.getStatus(), NewWorkReason.HR.getCode(), ReviewType.NAFI.getCode());
         List<ApiAssessmentSectionSummary> assessmentSectionSummaryList = new ArrayList<>();
-        Optional<AssessmentCriteriaEntity> criteriaEntity = Optional.empty();
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.empty();
         meansAssessmentSectionSummaryBuilder.buildInitialAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getInitialAssessment().getLowerThreshold()).isNull();
         assertThat(response.getInitialAssessment().getUpperThreshold()).isNull();
     }
@@ -347,10 +343,9 @@ class MeansAssessmentSectionSummaryBuilderTest {
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.INITA.name(), AssessmentType.INIT));
         assessmentSectionSummaryList.add(
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.FULLA.name(), AssessmentType.FULL));
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildFullAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getFullAssessment()).isEqualTo(expectedFullAssessment);
     }
 
@@ -370,15 +365,14 @@ class MeansAssessmentSectionSummaryBuilderTest {
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.INITA.name(), AssessmentType.INIT));
         assessmentSectionSummaryList.add(
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.FULLA.name(), AssessmentType.FULL));
-        Optional<AssessmentCriteriaEntity> criteriaEntity =
-                Optional.of(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.of(TestModelDataBuilder.getAssessmentCriteria());
         meansAssessmentSectionSummaryBuilder.buildFullAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getFullAssessment()).isEqualTo(expectedFullAssessment);
     }
 
     @Test
-    void givenEmptyAssessmentCriteriaEntity_whenBuildFullAssessmentInvoked_shouldNotReturnThreshold() {
+    void givenEmptyAssessmentCriteria_whenBuildFullAssessmentInvoked_shouldNotReturnThreshold() {
 
         ApiGetMeansAssessmentResponse response = new ApiGetMeansAssessmentResponse();
         response.setFullAssessment(new ApiFullMeansAssessment());
@@ -394,9 +388,9 @@ class MeansAssessmentSectionSummaryBuilderTest {
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.INITA.name(), AssessmentType.INIT));
         assessmentSectionSummaryList.add(
                 TestModelDataBuilder.getAssessmentSectionSummary(Section.FULLA.name(), AssessmentType.FULL));
-        Optional<AssessmentCriteriaEntity> criteriaEntity = Optional.empty();
+        Optional<AssessmentCriteria> assessmentCriteria = Optional.empty();
         meansAssessmentSectionSummaryBuilder.buildFullAssessment(
-                response, financialAssessmentDTO, assessmentSectionSummaryList, criteriaEntity);
+                response, financialAssessmentDTO, assessmentSectionSummaryList, assessmentCriteria);
         assertThat(response.getFullAssessment()).isEqualTo(expectedFullAssessment);
     }
 }
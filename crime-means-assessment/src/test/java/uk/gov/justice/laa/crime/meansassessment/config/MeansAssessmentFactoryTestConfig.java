@@ -4,6 +4,7 @@ import uk.gov.justice.laa.crime.meansassessment.factory.MeansAssessmentServiceFa
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaChildWeightingService;
 import uk.gov.justice.laa.crime.meansassessment.service.FullMeansAssessmentService;
 import uk.gov.justice.laa.crime.meansassessment.service.InitMeansAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
 
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,12 +22,12 @@ public class MeansAssessmentFactoryTestConfig {
 
     @Bean
     public InitMeansAssessmentService initService() {
-        return new InitMeansAssessmentService(childWeightingService);
+        return new InitMeansAssessmentService(childWeightingService, new BigDecimalMeansCalculationKernel());
     }
 
     @Bean
     public FullMeansAssessmentService fullService() {
-        return new FullMeansAssessmentService(childWeightingService);
+        return new FullMeansAssessmentService(childWeightingService, new BigDecimalMeansCalculationKernel());
     }
 
     @Bean
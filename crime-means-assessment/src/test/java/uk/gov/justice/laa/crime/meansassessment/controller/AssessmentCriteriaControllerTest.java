@@ -0,0 +1,95 @@
+package uk.gov.justice.laa.crime.meansassessment.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.justice.laa.crime.meansassessment.util.RequestBuilderUtils.buildRequestGivenContent;
+
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundle;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
+import uk.gov.justice.laa.crime.meansassessment.tracing.TraceIdHandler;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith(SpringExtension.class)
+@AutoConfigureMockMvc(addFilters = false)
+@WebMvcTest(AssessmentCriteriaController.class)
+class AssessmentCriteriaControllerTest {
+
+    private static final String ENDPOINT_URL = "/api/internal/v1/assessment/criteria";
+    private static final String CRITERIA_VERSION = "0123456789abcdef";
+    private static final AssessmentCriteriaBundle ASSESSMENT_CRITERIA = new AssessmentCriteriaBundle(
+            AssessmentCriteriaBundle.FORMAT_VERSION,
+            CRITERIA_VERSION,
+            Instant.parse("2024-04-01T00:00:00Z"),
+            List.of(new AssessmentCriteriaBundle.Criteria(
+                    34,
+                    LocalDateTime.of(2024, 4, 1, 0, 0),
+                    null,
+                    new BigDecimal("12475.00"),
+                    new BigDecimal("22325.00"),
+                    new BigDecimal("3398.00"),
+                    BigDecimal.ONE,
+                    new BigDecimal("0.64"),
+                    new BigDecimal("5676.00"),
+                    new BigDecimal("37500.00"),
+                    List.of(),
+                    List.of())));
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private AssessmentCriteriaService assessmentCriteriaService;
+
+    @MockitoBean
+    private TraceIdHandler traceIdHandler;
+
+    @MockitoBean
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        when(assessmentCriteriaSnapshotHolder.getCurrentSnapshot())
+                .thenReturn(AssessmentCriteriaSnapshot.builder()
+                        .assessmentCriteria(List.of())
+                        .version(CRITERIA_VERSION)
+                        .build());
+        when(assessmentCriteriaService.getAssessmentCriteriaTimeline()).thenReturn(ASSESSMENT_CRITERIA);
+    }
+
+    @Test
+    void givenAssessmentCriteria_whenGetAssessmentCriteriaInvoked_shouldReturnTimelineWithETag() throws Exception {
+        mvc.perform(buildRequestGivenContent(HttpMethod.GET, "", ENDPOINT_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CRITERIA_VERSION + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, private"))
+                .andExpect(jsonPath("$.version").value(CRITERIA_VERSION))
+                .andExpect(jsonPath("$.assessmentCriteria[0].id").value(34));
+    }
+
+    @Test
+    void givenMatchingETag_whenGetAssessmentCriteriaInvoked_shouldReturnNotModified() throws Exception {
+        mvc.perform(buildRequestGivenContent(HttpMethod.GET, "", ENDPOINT_URL)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + CRITERIA_VERSION + "\""))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.crime.meansassessment.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder.ASSESSMENT_DATE;
@@ -19,17 +20,24 @@ import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilde
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
 import uk.gov.justice.laa.crime.meansassessment.service.MeansAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.RepOrderPrefetcher;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaVersionInterceptor;
 import uk.gov.justice.laa.crime.meansassessment.tracing.TraceIdHandler;
 import uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
@@ -47,6 +55,7 @@ class MeansAssessmentControllerTest {
 
     private static final boolean IS_VALID = true;
     private static final String ENDPOINT_URL = "/api/internal/v1/assessment/means";
+    private static final String CRITERIA_VERSION = "0123456789abcdef";
     private static final String FA_THRESHOLD_ENDPOINT_URL =
             "/api/internal/v1/assessment/means/fullAssessmentThreshold/";
 
@@ -71,6 +80,21 @@ class MeansAssessmentControllerTest {
     @MockitoBean
     private TraceIdHandler traceIdHandler;
 
+    @MockitoBean
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @MockitoBean
+    private RepOrderPrefetcher repOrderPrefetcher;
+
+    @BeforeEach
+    void setUp() {
+        when(assessmentCriteriaSnapshotHolder.getCurrentSnapshot())
+                .thenReturn(AssessmentCriteriaSnapshot.builder()
+                        .assessmentCriteria(List.of())
+                        .version(CRITERIA_VERSION)
+                        .build());
+    }
+
     @Test
     void createAssessment_success() throws Exception {
         var initialMeansAssessmentRequest = TestModelDataBuilder.getApiCreateMeansAssessmentRequest(IS_VALID);
@@ -89,7 +113,8 @@ class MeansAssessmentControllerTest {
         mvc.perform(buildRequestGivenContent(HttpMethod.POST, initialMeansAssessmentRequestJson, ENDPOINT_URL))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.assessmentId").value(MEANS_ASSESSMENT_ID));
+                .andExpect(jsonPath("$.assessmentId").value(MEANS_ASSESSMENT_ID))
+                .andExpect(header().string(AssessmentCriteriaVersionInterceptor.VERSION_HEADER, CRITERIA_VERSION));
     }
 
     @Test
@@ -181,6 +206,39 @@ class MeansAssessmentControllerTest {
                 .andExpect(jsonPath("$").value(FULL_THRESHOLD));
     }
 
+    @Test
+    void givenValidParam_whenFullAssessmentThresholdInvoked_shouldReturnETagAndCacheControl() throws Exception {
+        when(assessmentCriteriaService.getFullAssessmentThreshold(any())).thenReturn(new BigDecimal("1000"));
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn(CRITERIA_VERSION);
+        mvc.perform(buildRequestGivenContent(
+                        HttpMethod.GET, "", FA_THRESHOLD_ENDPOINT_URL + "/" + ASSESSMENT_DATE, true))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CRITERIA_VERSION + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, private"));
+    }
+
+    @Test
+    void givenMatchingETag_whenFullAssessmentThresholdInvoked_shouldReturnNotModified() throws Exception {
+        when(assessmentCriteriaService.getFullAssessmentThreshold(any())).thenReturn(new BigDecimal("1000"));
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn(CRITERIA_VERSION);
+        mvc.perform(buildRequestGivenContent(
+                                HttpMethod.GET, "", FA_THRESHOLD_ENDPOINT_URL + "/" + ASSESSMENT_DATE, true)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + CRITERIA_VERSION + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenStaleETag_whenFullAssessmentThresholdInvoked_shouldReturnThreshold() throws Exception {
+        when(assessmentCriteriaService.getFullAssessmentThreshold(any())).thenReturn(new BigDecimal("1000"));
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn(CRITERIA_VERSION);
+        mvc.perform(buildRequestGivenContent(
+                                HttpMethod.GET, "", FA_THRESHOLD_ENDPOINT_URL + "/" + ASSESSMENT_DATE, true)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"fedcba9876543210\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(FULL_THRESHOLD));
+    }
+
     @Test
     void givenInvalidParam_whenRollbackInvoked_shouldFailBadRequest() throws Exception {
         mvc.perform(buildRequestGivenContent(HttpMethod.PUT, "", ENDPOINT_URL + "/rollback", true))
@@ -1,11 +1,11 @@
 package uk.gov.justice.laa.crime.meansassessment.controller;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.justice.laa.crime.meansassessment.util.RequestBuilderUtils.buildRequestGivenContent;
 
@@ -28,7 +28,12 @@ import uk.gov.justice.laa.crime.meansassessment.StatelessInitialResult;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
 import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessAssessmentService;
+import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessRequestCoalescer;
 import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessResult;
+import uk.gov.justice.laa.crime.meansassessment.service.stateless.StatelessResultCache;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaVersionInterceptor;
 import uk.gov.justice.laa.crime.meansassessment.tracing.TraceIdHandler;
 
 import java.math.BigDecimal;
@@ -36,11 +41,13 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -52,8 +59,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @ExtendWith(SpringExtension.class)
 @AutoConfigureMockMvc(addFilters = false)
 @WebMvcTest(StatelessMeansAssessmentController.class)
+@Import({StatelessResultCache.class, StatelessRequestCoalescer.class})
 class StatelessMeansAssessmentControllerTest {
     private static final String MEANS_ASSESSMENT_ENDPOINT_URL = "/api/internal/v2/assessment/means";
+    private static final String CRITERIA_VERSION = "0123456789abcdef";
     private static final ApiMeansAssessmentRequest testRequest =
             TestModelDataBuilder.getApiCreateMeansAssessmentRequest(true);
     private static final DependantChild childOne = new DependantChild(AgeRange.ZERO_TO_ONE, 2);
@@ -77,6 +86,18 @@ class StatelessMeansAssessmentControllerTest {
     @MockitoBean
     private TraceIdHandler traceIdHandler;
 
+    @MockitoBean
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        when(assessmentCriteriaSnapshotHolder.getCurrentSnapshot())
+                .thenReturn(AssessmentCriteriaSnapshot.builder()
+                        .assessmentCriteria(List.of())
+                        .version(CRITERIA_VERSION)
+                        .build());
+    }
+
     @Test
     void validRequest_success() throws Exception {
         var assessment = buildAssessment(StatelessRequestType.BOTH);
@@ -99,11 +120,12 @@ class StatelessMeansAssessmentControllerTest {
 
         when(statelessAssessmentService.execute(any(Assessment.class), anyMap(), anyList(), anyList()))
                 .thenReturn(initialResult);
-        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class), anyBoolean(), anyBoolean()))
-                .thenReturn(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class)))
+                .thenReturn(TestModelDataBuilder.getAssessmentCriteria());
         mvc.perform(buildRequestGivenContent(HttpMethod.POST, json, MEANS_ASSESSMENT_ENDPOINT_URL))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(AssessmentCriteriaVersionInterceptor.VERSION_HEADER, CRITERIA_VERSION));
     }
 
     @Test
@@ -129,8 +151,8 @@ class StatelessMeansAssessmentControllerTest {
 
         when(statelessAssessmentService.execute(any(Assessment.class), anyMap(), anyList(), anyList()))
                 .thenReturn(fullResult);
-        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class), anyBoolean(), anyBoolean()))
-                .thenReturn(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class)))
+                .thenReturn(TestModelDataBuilder.getAssessmentCriteria());
         mvc.perform(buildRequestGivenContent(HttpMethod.POST, json, MEANS_ASSESSMENT_ENDPOINT_URL))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
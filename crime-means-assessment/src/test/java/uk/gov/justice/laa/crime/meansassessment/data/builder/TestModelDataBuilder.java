@@ -36,21 +36,19 @@ import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinAssIncomeEv
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDetails;
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailFrequencyEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.CaseTypeAssessmentCriteriaDetailValueEntity;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.IncomeEvidenceEntity;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.enums.Section;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaChildWeighting;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -135,25 +133,18 @@ public class TestModelDataBuilder {
     public static final String TEST_DATE_STRING = "2022-10-08";
     private static final Integer TEST_FINANCIAL_ASSESSMENT_ID = 63423;
 
-    public static AssessmentCriteriaEntity getAssessmentCriteriaEntityWithChildWeightings(
-            BigDecimal[] weightingFactors) {
-        var criteria = getAssessmentCriteriaEntity();
-        var weighting1 = getAssessmentCriteriaChildWeightingEntityWithId(37);
-        weighting1.setWeightingFactor(weightingFactors[0]);
-        var weighting2 = getAssessmentCriteriaChildWeightingEntityWithId(38);
-        weighting2.setWeightingFactor(weightingFactors[1]);
-        criteria.setAssessmentCriteriaChildWeightings(Set.of(weighting1, weighting2));
-        return criteria;
+    public static AssessmentCriteria getAssessmentCriteriaWithDetails() {
+        return getAssessmentCriteriaBuilder()
+                .details(List.of(getAssessmentCriteriaDetail()))
+                .build();
     }
 
-    public static AssessmentCriteriaEntity getAssessmentCriteriaEntityWithDetails() {
-        var criteria = getAssessmentCriteriaEntity();
-        criteria.setAssessmentCriteriaDetails(Set.of(getAssessmentCriteriaDetailEntityWithId()));
-        return criteria;
+    public static AssessmentCriteria getAssessmentCriteria() {
+        return getAssessmentCriteriaBuilder().build();
     }
 
-    public static AssessmentCriteriaEntity getAssessmentCriteriaEntity() {
-        return AssessmentCriteriaEntity.builder()
+    public static AssessmentCriteria.AssessmentCriteriaBuilder getAssessmentCriteriaBuilder() {
+        return AssessmentCriteria.builder()
                 .dateFrom(TEST_DATE_FROM)
                 .dateTo(TEST_DATE_TO)
                 .initialLowerThreshold(TEST_INITIAL_LOWER_THRESHOLD)
@@ -161,45 +152,36 @@ public class TestModelDataBuilder {
                 .fullThreshold(TEST_FULL_THRESHOLD)
                 .applicantWeightingFactor(TEST_APPLICANT_WEIGHTING_FACTOR)
                 .partnerWeightingFactor(TEST_PARTNER_WEIGHTING_FACTOR)
-                .createdDateTime(LocalDateTime.now())
-                .createdBy(TEST_USER)
-                .modifiedDateTime(LocalDateTime.now())
-                .modifiedBy(TEST_USER)
                 .livingAllowance(TEST_LIVING_ALLOWANCE)
-                .eligibilityThreshold(TEST_ELIGIBILITY_THRESHOLD)
-                .build();
+                .eligibilityThreshold(TEST_ELIGIBILITY_THRESHOLD);
     }
 
-    public static AssessmentCriteriaChildWeightingEntity getAssessmentCriteriaChildWeightingEntityWithId(int id) {
-        var childWeighting = getAssessmentCriteriaChildWeightingEntity();
-        childWeighting.setId(id);
-        return childWeighting;
+    public static AssessmentCriteriaChildWeighting getAssessmentCriteriaChildWeighting(int id) {
+        return getAssessmentCriteriaChildWeighting(id, TEST_WEIGHTING_FACTOR);
     }
 
-    public static AssessmentCriteriaChildWeightingEntity getAssessmentCriteriaChildWeightingEntity() {
-        return AssessmentCriteriaChildWeightingEntity.builder()
-                .assessmentCriteria(AssessmentCriteriaEntity.builder().id(1).build())
-                .lowerAgeRange(TEST_INITIAL_LOWER_AGE_RANGE)
-                .upperAgeRange(TEST_INITIAL_UPPER_AGE_RANGE)
-                .weightingFactor(TEST_WEIGHTING_FACTOR)
-                .userCreated(TEST_USER)
-                .build();
+    public static AssessmentCriteriaChildWeighting getAssessmentCriteriaChildWeighting(
+            int id, BigDecimal weightingFactor) {
+        return new AssessmentCriteriaChildWeighting(
+                id, TEST_INITIAL_LOWER_AGE_RANGE, TEST_INITIAL_UPPER_AGE_RANGE, weightingFactor);
     }
 
-    public static AssessmentCriteriaDetailEntity getAssessmentCriteriaDetailEntityWithId() {
-        var criteriaDetail = getAssessmentCriteriaDetailEntity();
-        criteriaDetail.setId(TEST_CRITERIA_DETAIL_ID);
-        return criteriaDetail;
+    public static AssessmentCriteriaDetail getAssessmentCriteriaDetail() {
+        return getAssessmentCriteriaDetailBuilder().build();
     }
 
-    public static AssessmentCriteriaDetailEntity getAssessmentCriteriaDetailEntity() {
-        return AssessmentCriteriaDetailEntity.builder()
+    public static AssessmentCriteriaDetail.AssessmentCriteriaDetailBuilder getAssessmentCriteriaDetailBuilder() {
+        return AssessmentCriteriaDetail.builder()
+                .id(TEST_CRITERIA_DETAIL_ID)
                 .description(TEST_DESCRIPTION)
                 .section(TEST_SECTION)
                 .seq(TEST_SEQ)
-                .createdDateTime(LocalDateTime.now())
-                .modifiedDateTime(LocalDateTime.now())
-                .build();
+                .permittedFrequencies(EnumSet.allOf(Frequency.class));
+    }
+
+    public static AssessmentCriteriaDetail.CaseTypeValue getCaseTypeValue(CaseType caseType) {
+        return new AssessmentCriteriaDetail.CaseTypeValue(
+                null, caseType, TEST_APPLICANT_VALUE, TEST_FREQUENCY, TEST_PARTNER_VALUE, TEST_FREQUENCY);
     }
 
     public static AssessmentCriteriaDetailFrequencyEntity getAssessmentCriteriaDetailFrequencyEntity() {
@@ -210,18 +192,6 @@ public class TestModelDataBuilder {
                 .build();
     }
 
-    public static CaseTypeAssessmentCriteriaDetailValueEntity getCaseTypeAssessmentCriteriaDetailValueEntity() {
-        return CaseTypeAssessmentCriteriaDetailValueEntity.builder()
-                .applicantValue(TEST_APPLICANT_VALUE)
-                .caseType(TEST_CASE_TYPE)
-                .applicantFrequency(TEST_FREQUENCY)
-                .partnerFrequency(TEST_FREQUENCY)
-                .partnerValue(TEST_PARTNER_VALUE)
-                .createdDateTime(LocalDateTime.now())
-                .modifiedDateTime(LocalDateTime.now())
-                .build();
-    }
-
     public static IncomeEvidenceEntity getIncomeEvidenceEntity() {
         return IncomeEvidenceEntity.builder()
                 .adhoc("Y")
@@ -364,7 +334,7 @@ public class TestModelDataBuilder {
     public static MeansAssessmentDTO getMeansAssessmentDTO() {
         return MeansAssessmentDTO.builder()
                 .meansAssessment(getMeansAssessmentRequestDTO(true))
-                .assessmentCriteria(getAssessmentCriteriaEntity())
+                .assessmentCriteria(getAssessmentCriteria())
                 .totalAggregatedIncome(TEST_AGGREGATED_INCOME)
                 .userCreated(TEST_USER)
                 .currentStatus(CurrentStatus.COMPLETE)
@@ -602,17 +572,13 @@ public class TestModelDataBuilder {
                 .build();
     }
 
-    public static AssessmentCriteriaDetailEntity getAssessmentCriteriaDetailEntity(String section) {
-        return AssessmentCriteriaDetailEntity.builder()
+    public static AssessmentCriteriaDetail getAssessmentCriteriaDetail(String section) {
+        return AssessmentCriteriaDetail.builder()
                 .id(TEST_DETAIL_ID)
                 .description(TEST_DESCRIPTION)
                 .section(TEST_SECTION)
                 .seq(TEST_SEQ)
-                .createdDateTime(LocalDateTime.now())
-                .modifiedDateTime(LocalDateTime.now())
-                .assessmentDetail(AssessmentDetailEntity.builder()
-                        .detailCode(TEST_DETAIL_CODE)
-                        .build())
+                .detailCode(TEST_DETAIL_CODE)
                 .build();
     }
 
@@ -6,7 +6,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentChildWeighting;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -24,13 +24,16 @@ class AssessmentCriteriaChildWeightingServiceTest {
     @InjectMocks
     private AssessmentCriteriaChildWeightingService criteriaChildWeightingService;
 
-    private AssessmentCriteriaEntity assessmentCriteria;
+    private AssessmentCriteria assessmentCriteria;
 
     @BeforeEach
     void setUp() {
-        assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaEntityWithChildWeightings(
-                new BigDecimal[] {BigDecimal.valueOf(0.15), BigDecimal.valueOf(0.35)});
-        assessmentCriteria.setId(1000);
+        assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .id(1000)
+                .childWeightings(List.of(
+                        TestModelDataBuilder.getAssessmentCriteriaChildWeighting(37, BigDecimal.valueOf(0.15)),
+                        TestModelDataBuilder.getAssessmentCriteriaChildWeighting(38, BigDecimal.valueOf(0.35))))
+                .build();
     }
 
     @Test
@@ -40,7 +43,7 @@ class AssessmentCriteriaChildWeightingServiceTest {
                         () -> criteriaChildWeightingService.getTotalChildWeighting(childWeightings, assessmentCriteria))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining(
-                        String.format("Child weightings missing for criteria: %d", assessmentCriteria.getId()));
+                        String.format("Child weightings missing for criteria: %d", assessmentCriteria.id()));
     }
 
     @Test
@@ -1,10 +1,15 @@
 package uk.gov.justice.laa.crime.meansassessment.service;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaDetailRepository;
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,15 +20,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class AssessmentCriteriaDetailServiceTest {
 
+    private static final int CRITERIA_DETAIL_ID = 41681827;
+
     @InjectMocks
     private AssessmentCriteriaDetailService assessmentCriteriaDetailService;
 
     @Mock
-    private AssessmentCriteriaDetailRepository assessmentCriteriaDetailRepository;
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
 
     @Test
     void testAssessmentCriteriaDetailService_whenGetAssessmentCriteriaDetailByIdInvoked_shouldSuccess() {
-        assessmentCriteriaDetailService.getAssessmentCriteriaDetailById(41681827);
-        verify(assessmentCriteriaDetailRepository, times(1)).findById(any());
+        AssessmentCriteriaDetail criteriaDetail = TestModelDataBuilder.getAssessmentCriteriaDetailBuilder()
+                .id(CRITERIA_DETAIL_ID)
+                .build();
+        AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .details(List.of(criteriaDetail))
+                .build();
+        when(assessmentCriteriaSnapshotHolder.getSnapshot())
+                .thenReturn(AssessmentCriteriaSnapshot.builder()
+                        .assessmentCriteria(List.of(assessmentCriteria))
+                        .build());
+
+        assertThat(assessmentCriteriaDetailService.getAssessmentCriteriaDetailById(CRITERIA_DETAIL_ID))
+                .containsSame(criteriaDetail);
     }
 }
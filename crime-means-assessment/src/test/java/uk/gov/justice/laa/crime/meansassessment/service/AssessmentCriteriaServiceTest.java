@@ -3,7 +3,6 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
@@ -12,16 +11,17 @@ import uk.gov.justice.laa.crime.enums.Frequency;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentCriteriaNotFoundException;
 import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.CaseTypeAssessmentCriteriaDetailValueEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaDetailFrequencyRepository;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.AssessmentCriteriaRepository;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.CaseTypeAssessmentCriteriaDetailValueRepository;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaBundle;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshot;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaSnapshotHolder;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.EnumSet;
+import java.util.List;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.ThrowableAssert;
@@ -37,92 +37,139 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class AssessmentCriteriaServiceTest {
 
     private static final int VALID_ASSESSMENT_CRITERIA_ID = 1000;
-    private AssessmentCriteriaEntity assessmentCriteriaEntity;
+    private AssessmentCriteria assessmentCriteria;
 
     @Spy
     @InjectMocks
     private AssessmentCriteriaService assessmentCriteriaService;
 
     @Mock
-    private AssessmentCriteriaRepository assessmentCriteriaRepository;
-
-    @Mock
-    private AssessmentCriteriaDetailFrequencyRepository assessmentCriteriaDetailFrequencyRepository;
-
-    @Mock
-    private CaseTypeAssessmentCriteriaDetailValueRepository caseTypeAssessmentCriteriaDetailValueRepository;
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
 
     @BeforeEach
     void setUp() {
-        assessmentCriteriaEntity = TestModelDataBuilder.getAssessmentCriteriaEntityWithDetails();
-        assessmentCriteriaEntity.setId(VALID_ASSESSMENT_CRITERIA_ID);
+        givenCriteriaDetail(TestModelDataBuilder.getAssessmentCriteriaDetailBuilder());
+    }
+
+    private void givenCriteriaDetail(AssessmentCriteriaDetail.AssessmentCriteriaDetailBuilder criteriaDetail) {
+        assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .id(VALID_ASSESSMENT_CRITERIA_ID)
+                .details(List.of(criteriaDetail.build()))
+                .build();
+    }
+
+    private void givenCriteriaDetailCaseTypeValue(CaseType caseType) {
+        givenCriteriaDetail(TestModelDataBuilder.getAssessmentCriteriaDetailBuilder()
+                .caseTypeValues(List.of(TestModelDataBuilder.getCaseTypeValue(caseType))));
+    }
+
+    private void givenSnapshotContaining(AssessmentCriteria... assessmentCriteria) {
+        when(assessmentCriteriaSnapshotHolder.getSnapshot())
+                .thenReturn(AssessmentCriteriaSnapshot.builder()
+                        .assessmentCriteria(List.of(assessmentCriteria))
+                        .build());
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
     }
 
     @Test
     void
-            givenValidDateWithPartnerAndNoContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenAssessmentCriteriaShouldBeReturnedWithPartnerWeightingFactor() {
-        when(assessmentCriteriaRepository.findAssessmentCriteriaForDate(any(LocalDateTime.class)))
-                .thenReturn(assessmentCriteriaEntity);
-        AssessmentCriteriaEntity result = assessmentCriteriaService.getAssessmentCriteria(
-                TestModelDataBuilder.TEST_DATE_FROM.plusHours(1), true, false);
-        assertThat(assessmentCriteriaEntity.getPartnerWeightingFactor()).isEqualTo(result.getPartnerWeightingFactor());
+            givenValidDateWithPartnerAndNoContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenWeightingsShouldIncludePartnerWeightingFactor() {
+        givenSnapshotContaining(assessmentCriteria);
+        AssessmentCriteria result =
+                assessmentCriteriaService.getAssessmentCriteria(TestModelDataBuilder.TEST_DATE_FROM.plusHours(1));
+        assertThat(result.id()).isEqualTo(assessmentCriteria.id());
+        assertThat(result.scaledCriteria().weightingsFor(true, false).householdWeighting())
+                .isEqualTo(scaled(TestModelDataBuilder.TEST_APPLICANT_WEIGHTING_FACTOR)
+                        .add(scaled(TestModelDataBuilder.TEST_PARTNER_WEIGHTING_FACTOR)));
     }
 
     @Test
     void
-            givenValidDateWithPartnerAndContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenAssessmentCriteriaShouldBeReturnedWithPartnerWeightingFactor() {
-        when(assessmentCriteriaRepository.findAssessmentCriteriaForDate(any(LocalDateTime.class)))
-                .thenReturn(assessmentCriteriaEntity);
-
-        AssessmentCriteriaEntity result = assessmentCriteriaService.getAssessmentCriteria(
-                TestModelDataBuilder.TEST_DATE_FROM.plusHours(1), true, true);
-        assertThat(assessmentCriteriaEntity).isEqualTo(result);
-        assertThat(result.getPartnerWeightingFactor()).isEqualTo(assessmentCriteriaEntity.getPartnerWeightingFactor());
+            givenValidDateWithPartnerAndContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenWeightingsShouldExcludePartnerWeightingFactor() {
+        givenSnapshotContaining(assessmentCriteria);
+
+        AssessmentCriteria result =
+                assessmentCriteriaService.getAssessmentCriteria(TestModelDataBuilder.TEST_DATE_FROM.plusHours(1));
+        assertThat(result.id()).isEqualTo(assessmentCriteria.id());
+        assertThat(result.scaledCriteria().weightingsFor(true, true).householdWeighting())
+                .isEqualTo(scaled(TestModelDataBuilder.TEST_APPLICANT_WEIGHTING_FACTOR));
     }
 
     @Test
     void
-            givenValidDateWithoutPartnerAndContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenAssessmentCriteriaShouldBeReturnedWithZeroedPartnerWeightingFactor() {
-        when(assessmentCriteriaRepository.findAssessmentCriteriaForDate(any(LocalDateTime.class)))
-                .thenReturn(assessmentCriteriaEntity);
-
-        AssessmentCriteriaEntity result = assessmentCriteriaService.getAssessmentCriteria(
-                TestModelDataBuilder.TEST_DATE_FROM.plusHours(1), false, false);
-        assertThat(assessmentCriteriaEntity).isEqualTo(result);
-        assertThat(BigDecimal.ZERO).isEqualTo(result.getPartnerWeightingFactor());
+            givenValidDateWithoutPartnerAndContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenWeightingsShouldExcludePartnerWeightingFactor() {
+        givenSnapshotContaining(assessmentCriteria);
+
+        AssessmentCriteria result =
+                assessmentCriteriaService.getAssessmentCriteria(TestModelDataBuilder.TEST_DATE_FROM.plusHours(1));
+        assertThat(result.id()).isEqualTo(assessmentCriteria.id());
+        assertThat(result.scaledCriteria().weightingsFor(false, false).householdWeighting())
+                .isEqualTo(scaled(TestModelDataBuilder.TEST_APPLICANT_WEIGHTING_FACTOR));
+    }
+
+    @Test
+    void givenCriteriaInSnapshot_WhenGetAssessmentCriteriaIsInvoked_ThenSnapshotEntryIsReturnedUnchanged() {
+        givenSnapshotContaining(assessmentCriteria);
+
+        AssessmentCriteria result =
+                assessmentCriteriaService.getAssessmentCriteria(TestModelDataBuilder.TEST_DATE_FROM.plusHours(1));
+        assertThat(result).isSameAs(assessmentCriteria);
+        assertThat(result.partnerWeightingFactor()).isEqualTo(TestModelDataBuilder.TEST_PARTNER_WEIGHTING_FACTOR);
     }
 
     @Test
     void givenInvalidDateWithPartnerAndNoContraryInterest_WhenGetAssessmentCriteriaIsInvoked_ThenExceptionIsThrown()
             throws AssessmentCriteriaNotFoundException {
-        when(assessmentCriteriaRepository.findAssessmentCriteriaForDate(any(LocalDateTime.class)))
-                .thenReturn(null);
+        givenSnapshotContaining(assessmentCriteria);
 
         LocalDateTime criteriaDate = TestModelDataBuilder.TEST_DATE_FROM.minusYears(100);
 
-        assertThatThrownBy(() -> assessmentCriteriaService.getAssessmentCriteria(criteriaDate, true, true))
+        assertThatThrownBy(() -> assessmentCriteriaService.getAssessmentCriteria(criteriaDate))
                 .isInstanceOf(AssessmentCriteriaNotFoundException.class)
                 .hasMessageContaining("No Assessment Criteria found for date " + criteriaDate);
     }
 
     @Test
-    void givenValidFrequency_whenCheckCriteriaDetailFrequencyIsInvoked_thenDoesNothing() {
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
-        AssessmentCriteriaDetailEntity detail = TestModelDataBuilder.getAssessmentCriteriaDetailEntity();
-        assessmentCriteriaService.checkCriteriaDetailFrequency(detail, Frequency.WEEKLY);
+    void givenPermittedFrequency_whenCheckAssessmentDetailIsInvoked_thenDoesNothing() {
+        ApiAssessmentDetail detail =
+                TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
+        givenCriteriaDetail(TestModelDataBuilder.getAssessmentCriteriaDetailBuilder()
+                .permittedFrequencies(EnumSet.of(TestModelDataBuilder.TEST_FREQUENCY)));
+
+        assertThatNoException()
+                .isThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, TestModelDataBuilder.TEST_SECTION, assessmentCriteria, detail));
+    }
+
+    @Test
+    void givenInvalidPartnerFrequency_whenCheckAssessmentDetailIsInvoked_thenExceptionIsThrown() {
+        ApiAssessmentDetail detail =
+                TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
+        detail.setApplicantFrequency(null);
+        detail.setPartnerFrequency(Frequency.WEEKLY);
+        givenCriteriaDetail(TestModelDataBuilder.getAssessmentCriteriaDetailBuilder()
+                .permittedFrequencies(EnumSet.of(Frequency.ANNUALLY)));
+
+        assertThatThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, TestModelDataBuilder.TEST_SECTION, assessmentCriteria, detail))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Frequency: WEEKLY not valid for: " + TestModelDataBuilder.TEST_DESCRIPTION);
     }
 
     @Test
-    void givenInvalidFrequency_whenCheckCriteriaDetailFrequencyIsInvoked_thenExceptionIsThrown() {
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.empty());
-        AssessmentCriteriaDetailEntity detail = TestModelDataBuilder.getAssessmentCriteriaDetailEntity();
-        assertThatThrownBy(() -> assessmentCriteriaService.checkCriteriaDetailFrequency(detail, Frequency.WEEKLY))
+    void givenDetailWithoutPermittedFrequencies_whenCheckAssessmentDetailIsInvoked_thenExceptionIsThrown() {
+        ApiAssessmentDetail detail =
+                TestModelDataBuilder.getApiAssessmentDetails().get(0);
+        givenCriteriaDetail(TestModelDataBuilder.getAssessmentCriteriaDetailBuilder().permittedFrequencies(null));
+
+        assertThatThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, TestModelDataBuilder.TEST_SECTION, assessmentCriteria, detail))
                 .isInstanceOf(ValidationException.class)
-                .hasMessageContaining("Frequency: WEEKLY not valid for: " + detail.getDescription());
+                .hasMessageContaining("Frequency: " + TestModelDataBuilder.TEST_FREQUENCY.getCode() + " not valid for: "
+                        + TestModelDataBuilder.TEST_DESCRIPTION);
     }
 
     @Test
@@ -133,11 +180,11 @@ class AssessmentCriteriaServiceTest {
         detail.setCriteriaDetailId(0);
 
         assertThatThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
-                        CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail))
+                        CaseType.EITHER_WAY, section, assessmentCriteria, detail))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining(String.format(
                         "Section: %s criteria detail item: %d does not exist for criteria id: %s",
-                        section, detail.getCriteriaDetailId(), assessmentCriteriaEntity.getId()));
+                        section, detail.getCriteriaDetailId(), assessmentCriteria.id()));
     }
 
     @Test
@@ -147,11 +194,11 @@ class AssessmentCriteriaServiceTest {
                 TestModelDataBuilder.getApiAssessmentDetails().get(0);
 
         assertThatThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
-                        CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail))
+                        CaseType.EITHER_WAY, section, assessmentCriteria, detail))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining(String.format(
                         "Section: %s criteria detail item: %d does not exist for criteria id: %s",
-                        section, detail.getCriteriaDetailId(), assessmentCriteriaEntity.getId()));
+                        section, detail.getCriteriaDetailId(), assessmentCriteria.id()));
     }
 
     @Test
@@ -160,11 +207,7 @@ class AssessmentCriteriaServiceTest {
         ApiAssessmentDetail detail =
                 TestModelDataBuilder.getApiAssessmentDetails().get(0);
 
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
-
-        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail);
+        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteria, detail);
     }
 
     @Test
@@ -174,11 +217,7 @@ class AssessmentCriteriaServiceTest {
                 TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
 
         detail.setApplicantFrequency(null);
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
-
-        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail);
+        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteria, detail);
     }
 
     @Test
@@ -187,32 +226,47 @@ class AssessmentCriteriaServiceTest {
         ApiAssessmentDetail detail =
                 TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
 
-        when(caseTypeAssessmentCriteriaDetailValueRepository.findByAssessmentCriteriaDetailAndCaseType(
-                        any(AssessmentCriteriaDetailEntity.class), any(CaseType.class)))
-                .thenReturn(Optional.empty());
+        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteria, detail);
+    }
+
+    @Test
+    void givenAppealCostsCriteriaDetailWithCorrectAmounts_whenCheckAssessmentDetailIsInvoked_thenDoNothing() {
+        String section = TestModelDataBuilder.TEST_SECTION;
+        ApiAssessmentDetail detail =
+                TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
 
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
+        givenCriteriaDetailCaseTypeValue(CaseType.EITHER_WAY);
 
-        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail);
+        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteria, detail);
     }
 
     @Test
-    void givenAppealCostsCriteriaDetailWithCorrectAmounts_whenCheckAssessmentDetailIsInvoked_thenDoNothing() {
+    void givenAppealCostsForAnotherCaseType_whenCheckAssessmentDetailIsInvoked_thenDoNothing() {
         String section = TestModelDataBuilder.TEST_SECTION;
         ApiAssessmentDetail detail =
                 TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
+        detail.setApplicantAmount(BigDecimal.ZERO);
 
-        when(caseTypeAssessmentCriteriaDetailValueRepository.findByAssessmentCriteriaDetailAndCaseType(
-                        any(AssessmentCriteriaDetailEntity.class), any(CaseType.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getCaseTypeAssessmentCriteriaDetailValueEntity()));
+        givenCriteriaDetailCaseTypeValue(CaseType.APPEAL_CC);
+
+        assertThatNoException()
+                .isThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, section, assessmentCriteria, detail));
+    }
 
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
+    @Test
+    void givenNoCaseType_whenCheckAssessmentDetailIsInvoked_thenDefaultCaseTypeValueIsApplied() {
+        String section = TestModelDataBuilder.TEST_SECTION;
+        ApiAssessmentDetail detail =
+                TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
+        detail.setApplicantAmount(BigDecimal.ZERO);
 
-        assessmentCriteriaService.checkAssessmentDetail(CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail);
+        givenCriteriaDetailCaseTypeValue(null);
+
+        assertThatThrownBy(() -> assessmentCriteriaService.checkAssessmentDetail(
+                        null, section, assessmentCriteria, detail))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Incorrect amount entered for: " + TestModelDataBuilder.TEST_DESCRIPTION);
     }
 
     @Test
@@ -221,19 +275,11 @@ class AssessmentCriteriaServiceTest {
         ApiAssessmentDetail detail =
                 TestModelDataBuilder.getApiAssessmentDetails(true).get(0);
 
-        CaseTypeAssessmentCriteriaDetailValueEntity criteriaDetailValueEntity =
-                TestModelDataBuilder.getCaseTypeAssessmentCriteriaDetailValueEntity();
-        when(caseTypeAssessmentCriteriaDetailValueRepository.findByAssessmentCriteriaDetailAndCaseType(
-                        any(AssessmentCriteriaDetailEntity.class), any(CaseType.class)))
-                .thenReturn(Optional.of(criteriaDetailValueEntity));
-
-        when(assessmentCriteriaDetailFrequencyRepository.findByAssessmentCriteriaDetailAndFrequency(
-                        any(AssessmentCriteriaDetailEntity.class), any(Frequency.class)))
-                .thenReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailFrequencyEntity()));
+        givenCriteriaDetailCaseTypeValue(CaseType.EITHER_WAY);
 
         String expectedErrorMessage = "Incorrect amount entered for: " + TestModelDataBuilder.TEST_DESCRIPTION;
         ThrowableAssert.ThrowingCallable function = () -> assessmentCriteriaService.checkAssessmentDetail(
-                CaseType.EITHER_WAY, section, assessmentCriteriaEntity, detail);
+                CaseType.EITHER_WAY, section, assessmentCriteria, detail);
 
         SoftAssertions.assertSoftly(softly -> {
             detail.setApplicantAmount(BigDecimal.ZERO);
@@ -272,9 +318,42 @@ class AssessmentCriteriaServiceTest {
 
     @Test
     void givenValidFrequency_whenGetFullAssessmentThresholdIsInvoked_thenThenAssessmentCriteriaDTOShouldBeReturned() {
-        when(assessmentCriteriaRepository.findAssessmentCriteriaForDate(any(LocalDateTime.class)))
-                .thenReturn(TestModelDataBuilder.getAssessmentCriteriaEntity());
+        givenSnapshotContaining(TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .dateFrom(LocalDateTime.of(2022, 4, 1, 0, 0))
+                .dateTo(null)
+                .build());
         BigDecimal result = assessmentCriteriaService.getFullAssessmentThreshold(TestModelDataBuilder.TEST_DATE_STRING);
         assertThat(result).isEqualTo(TestModelDataBuilder.TEST_FULL_THRESHOLD);
     }
+
+    @Test
+    void givenDateNotCovered_whenGetFullAssessmentThresholdIsInvoked_thenExceptionIsThrown() {
+        givenSnapshotContaining(assessmentCriteria);
+        assertThatThrownBy(() -> assessmentCriteriaService.getFullAssessmentThreshold(
+                        TestModelDataBuilder.TEST_DATE_STRING))
+                .isInstanceOf(AssessmentCriteriaNotFoundException.class);
+    }
+
+    @Test
+    void givenCriteriaInSnapshot_whenGetAssessmentCriteriaByIdIsInvoked_thenCriteriaIsReturned() {
+        givenSnapshotContaining(assessmentCriteria);
+        AssessmentCriteria result = assessmentCriteriaService
+                .getAssessmentCriteriaById(VALID_ASSESSMENT_CRITERIA_ID)
+                .orElseThrow();
+        assertThat(result).isSameAs(assessmentCriteria);
+        assertThat(assessmentCriteriaService.getAssessmentCriteriaById(-1)).isEmpty();
+    }
+
+    @Test
+    void givenUnchangedSnapshot_whenGetAssessmentCriteriaTimelineIsInvokedTwice_thenTimelineIsBuiltOnce() {
+        givenSnapshotContaining(TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .id(VALID_ASSESSMENT_CRITERIA_ID)
+                .build());
+
+        AssessmentCriteriaBundle timeline = assessmentCriteriaService.getAssessmentCriteriaTimeline();
+
+        assertThat(timeline.assessmentCriteria().size()).isEqualTo(1);
+        assertThat(timeline.assessmentCriteria().get(0).id()).isEqualTo(VALID_ASSESSMENT_CRITERIA_ID);
+        assertThat(assessmentCriteriaService.getAssessmentCriteriaTimeline()).isSameAs(timeline);
+    }
 }
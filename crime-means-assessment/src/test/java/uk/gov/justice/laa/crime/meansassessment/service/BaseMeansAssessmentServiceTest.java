@@ -7,7 +7,9 @@ import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentSectio
 import uk.gov.justice.laa.crime.enums.Frequency;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.SectionSummariesTotals;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -24,8 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class BaseMeansAssessmentServiceTest {
 
     static final BigDecimal EXPECTED_TOTAL_AMOUNT = new BigDecimal("120.00");
-    private final AssessmentCriteriaEntity assessmentCriteria =
-            TestModelDataBuilder.getAssessmentCriteriaEntityWithDetails();
+    private final AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaWithDetails();
 
     @Mock
     private AssessmentCriteriaService assessmentCriteriaService;
@@ -151,9 +152,43 @@ class BaseMeansAssessmentServiceTest {
         assertThat(summariesTotal).isEqualTo(expected);
     }
 
+    @Test
+    void givenTwoSectionsWithPartner_whenTotalSectionSummariesIsInvoked_thenSummariesAreNotChanged() {
+        List<ApiAssessmentSectionSummary> sectionSummaries = TestModelDataBuilder.getAssessmentSummaries();
+        ApiAssessmentDetail detail = sectionSummaries.get(0).getAssessmentDetails().get(0);
+        detail.setPartnerFrequency(TestModelDataBuilder.TEST_FREQUENCY);
+        detail.setPartnerAmount(TestModelDataBuilder.TEST_APPLICANT_VALUE);
+        sectionSummaries.forEach(sectionSummary -> sectionSummary.setAnnualTotal(null));
+
+        SectionSummariesTotals totals = mockAssessmentService.totalSectionSummaries(
+                meansAssessment.getCaseType(), sectionSummaries, assessmentCriteria);
+
+        BigDecimal lineTotal = TestModelDataBuilder.TEST_APPLICANT_VALUE
+                .multiply(BigDecimal.valueOf(TestModelDataBuilder.TEST_FREQUENCY.getWeighting()))
+                .setScale(2, RoundingMode.HALF_UP);
+        SectionSummariesTotals.SectionTotals first = totals.sections().get(0);
+        assertThat(first.applicantAnnualTotal()).isEqualTo(lineTotal);
+        assertThat(first.partnerAnnualTotal()).isEqualTo(lineTotal);
+        assertThat(first.annualTotal()).isEqualTo(lineTotal.add(lineTotal));
+        assertThat(totals.sections().get(1).annualTotal()).isEqualTo(lineTotal);
+        assertThat(totals.annualTotal()).isEqualTo(lineTotal.multiply(BigDecimal.valueOf(3)));
+        assertThat(sectionSummaries.get(0).getAnnualTotal()).isNull();
+        assertThat(sectionSummaries.get(1).getAnnualTotal()).isNull();
+    }
+
+    @Test
+    void givenSectionSummaries_whenCalculateSummariesTotalIsInvoked_thenTotalsAreWrittenToSummaries() {
+        BigDecimal annualTotal = mockAssessmentService.calculateSummariesTotal(meansAssessment, assessmentCriteria);
+
+        ApiAssessmentSectionSummary sectionSummary = meansAssessment.getSectionSummaries().get(0);
+        assertThat(sectionSummary.getAnnualTotal()).isEqualTo(annualTotal);
+        assertThat(sectionSummary.getApplicantAnnualTotal()).isEqualTo(annualTotal);
+        assertThat(sectionSummary.getPartnerAnnualTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
     private class MockConcreteClass extends BaseMeansAssessmentService {
         MockConcreteClass(AssessmentCriteriaService assessmentCriteriaService) {
-            super(assessmentCriteriaService);
+            super(assessmentCriteriaService, new BigDecimalMeansCalculationKernel());
         }
     }
 }
@@ -0,0 +1,83 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CourtDataReadsInterceptorTest {
+
+    @Mock
+    private Tracer tracer;
+
+    @Mock
+    private Span span;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void givenRequest_whenPreHandleIsInvoked_thenRequestGetsItsOwnReads() {
+        CourtDataReadsInterceptor interceptor = interceptor(new StaticListableBeanFactory());
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(request.getAttribute(CourtDataReads.REQUEST_ATTRIBUTE)).isInstanceOf(CourtDataReads.class);
+    }
+
+    @Test
+    void givenReadTakenDuringRequest_whenAfterCompletionIsInvoked_thenSpanIsTaggedWithSavedCalls() {
+        when(tracer.currentSpan()).thenReturn(span);
+        CourtDataReadsInterceptor interceptor = interceptor(new StaticListableBeanFactory(Map.of("tracer", tracer)));
+        interceptor.preHandle(request, response, new Object());
+        CourtDataReads reads = (CourtDataReads) request.getAttribute(CourtDataReads.REQUEST_ATTRIBUTE);
+        reads.startRepOrderRead(
+                TestModelDataBuilder.TEST_REP_ID, CompletableFuture.completedFuture(new RepOrderDTO()));
+        reads.takeRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        verify(span).tag(CourtDataReadsInterceptor.SAVED_CALLS_TAG, "1");
+    }
+
+    @Test
+    void givenPrefetchNotTaken_whenAfterCompletionIsInvoked_thenPrefetchIsCancelled() {
+        CourtDataReadsInterceptor interceptor = interceptor(new StaticListableBeanFactory());
+        interceptor.preHandle(request, response, new Object());
+        CourtDataReads reads = (CourtDataReads) request.getAttribute(CourtDataReads.REQUEST_ATTRIBUTE);
+        CompletableFuture<RepOrderDTO> prefetch = new CompletableFuture<>();
+        reads.startRepOrderRead(TestModelDataBuilder.TEST_REP_ID, prefetch);
+
+        interceptor.afterCompletion(request, response, new Object(), new IllegalStateException());
+
+        assertThat(prefetch).isCancelled();
+    }
+
+    @Test
+    void givenNoTracer_whenAfterCompletionIsInvoked_thenRequestCompletes() {
+        CourtDataReadsInterceptor interceptor = interceptor(new StaticListableBeanFactory());
+        interceptor.preHandle(request, response, new Object());
+
+        assertThatNoException().isThrownBy(() -> interceptor.afterCompletion(request, response, new Object(), null));
+    }
+
+    private static CourtDataReadsInterceptor interceptor(StaticListableBeanFactory beanFactory) {
+        return new CourtDataReadsInterceptor(beanFactory.getBeanProvider(Tracer.class));
+    }
+}
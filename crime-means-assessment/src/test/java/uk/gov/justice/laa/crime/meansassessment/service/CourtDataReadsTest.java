@@ -0,0 +1,76 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class CourtDataReadsTest {
+
+    private static final Integer REP_ID = TestModelDataBuilder.TEST_REP_ID;
+
+    @Test
+    void givenReadInFlight_whenRepOrderIsTaken_thenCallerSharesTheRead() throws Exception {
+        CourtDataReads reads = new CourtDataReads();
+        CompletableFuture<RepOrderDTO> inFlight = new CompletableFuture<>();
+        reads.startRepOrderRead(REP_ID, inFlight);
+        RepOrderDTO expected = new RepOrderDTO();
+
+        CompletableFuture<Optional<RepOrderDTO>> taken =
+                CompletableFuture.supplyAsync(() -> reads.takeRepOrder(REP_ID));
+        assertThat(taken).isNotDone();
+        inFlight.complete(expected);
+
+        assertThat(taken.get(5, TimeUnit.SECONDS)).containsSame(expected);
+        assertThat(reads.getSavedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void givenReadInFlight_whenRepOrderIsTakenConcurrently_thenOnlyOneCallerReceivesIt() throws Exception {
+        CourtDataReads reads = new CourtDataReads();
+        CompletableFuture<RepOrderDTO> inFlight = new CompletableFuture<>();
+        reads.startRepOrderRead(REP_ID, inFlight);
+        CountDownLatch start = new CountDownLatch(1);
+
+        CompletableFuture<Optional<RepOrderDTO>> first =
+                CompletableFuture.supplyAsync(() -> takeOnceStarted(reads, start));
+        CompletableFuture<Optional<RepOrderDTO>> second =
+                CompletableFuture.supplyAsync(() -> takeOnceStarted(reads, start));
+        start.countDown();
+        inFlight.complete(new RepOrderDTO());
+
+        assertThat(List.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS)))
+                .filteredOn(Optional::isPresent)
+                .hasSize(1);
+        assertThat(reads.getSavedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void givenReadNotTaken_whenCleared_thenReadIsCancelledAndForgotten() {
+        CourtDataReads reads = new CourtDataReads();
+        CompletableFuture<RepOrderDTO> inFlight = new CompletableFuture<>();
+        reads.startRepOrderRead(REP_ID, inFlight);
+
+        reads.clear();
+
+        assertThat(inFlight).isCancelled();
+        assertThat(reads.takeRepOrder(REP_ID)).isEmpty();
+    }
+
+    private static Optional<RepOrderDTO> takeOnceStarted(CourtDataReads reads, CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return reads.takeRepOrder(REP_ID);
+    }
+}
@@ -10,7 +10,9 @@ import uk.gov.justice.laa.crime.enums.FullAssessmentResult;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,14 +32,16 @@ class FullMeansAssessmentServiceTest {
     private static final BigDecimal EXPECTED_ADJUSTED_LIVING_ALLOWANCE =
             BigDecimal.valueOf(6000).setScale(2, RoundingMode.HALF_UP);
 
-    private final AssessmentCriteriaEntity assessmentCriteria =
-            TestModelDataBuilder.getAssessmentCriteriaEntityWithDetails();
+    private final AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaWithDetails();
 
     private MeansAssessmentRequestDTO meansAssessment;
 
     @InjectMocks
     private FullMeansAssessmentService fullMeansAssessmentService;
 
+    @Spy
+    private MeansCalculationKernel calculationKernel = new BigDecimalMeansCalculationKernel();
+
     @Mock
     private AssessmentCriteriaChildWeightingService childWeightingService;
 
@@ -47,7 +52,7 @@ class FullMeansAssessmentServiceTest {
     }
 
     private void setupChildWeightingMock() {
-        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteriaEntity.class)))
+        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteria.class)))
                 .thenReturn(TestModelDataBuilder.TEST_TOTAL_CHILD_WEIGHTING);
     }
 
@@ -106,7 +111,7 @@ class FullMeansAssessmentServiceTest {
 
     @Test
     void givenCorrectParameters_whenGetAdjustedLivingAllowanceIsInvoked_thenCalculationIsCorrect() {
-        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteriaEntity.class)))
+        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteria.class)))
                 .thenReturn(TestModelDataBuilder.TEST_TOTAL_CHILD_WEIGHTING);
         BigDecimal result = fullMeansAssessmentService.getAdjustedLivingAllowance(meansAssessment, assessmentCriteria);
         assertThat(result).isEqualByComparingTo(EXPECTED_ADJUSTED_LIVING_ALLOWANCE);
@@ -114,7 +119,7 @@ class FullMeansAssessmentServiceTest {
 
     @Test
     void givenDisposableIncomeAboveThreshold_whenGetResultIsInvoked_thenResultIsFail() {
-        BigDecimal disposableIncome = assessmentCriteria.getFullThreshold().add(BigDecimal.valueOf(0.01));
+        BigDecimal disposableIncome = assessmentCriteria.fullThreshold().add(BigDecimal.valueOf(0.01));
         FullAssessmentResult result =
                 fullMeansAssessmentService.getResult(disposableIncome, meansAssessment, assessmentCriteria);
         assertThat(result).isEqualTo(FullAssessmentResult.FAIL);
@@ -122,7 +127,7 @@ class FullMeansAssessmentServiceTest {
 
     @Test
     void givenDisposableIncomeBelowThreshold_whenGetResultIsInvoked_thenResultIsPass() {
-        BigDecimal disposableIncome = assessmentCriteria.getFullThreshold().subtract(BigDecimal.valueOf(0.01));
+        BigDecimal disposableIncome = assessmentCriteria.fullThreshold().subtract(BigDecimal.valueOf(0.01));
         FullAssessmentResult result =
                 fullMeansAssessmentService.getResult(disposableIncome, meansAssessment, assessmentCriteria);
         assertThat(result).isEqualTo(FullAssessmentResult.PASS);
@@ -130,15 +135,14 @@ class FullMeansAssessmentServiceTest {
 
     @Test
     void givenEligibilityCheckRequiredAndIncomeBelowThreshold_whenGetResultIsInvoked_thenResultIsPass() {
-        BigDecimal disposableIncome =
-                assessmentCriteria.getEligibilityThreshold().subtract(BigDecimal.valueOf(0.01));
+        BigDecimal disposableIncome = assessmentCriteria.eligibilityThreshold().subtract(BigDecimal.valueOf(0.01));
         assertThat(fullMeansAssessmentService.getResult(disposableIncome, meansAssessment, assessmentCriteria))
                 .isEqualTo(FullAssessmentResult.FAIL);
     }
 
     @Test
     void givenEligibilityCheckRequiredAndEqualsThreshold_whenGetResultIsInvoked_thenResultIsPass() {
-        BigDecimal disposableIncome = assessmentCriteria.getEligibilityThreshold();
+        BigDecimal disposableIncome = assessmentCriteria.eligibilityThreshold();
         meansAssessment.setEligibilityCheckRequired(true);
         assertThat(fullMeansAssessmentService.getResult(disposableIncome, meansAssessment, assessmentCriteria))
                 .isEqualTo(FullAssessmentResult.INEL);
@@ -146,8 +150,7 @@ class FullMeansAssessmentServiceTest {
 
     @Test
     void givenEligibilityCheckRequiredAndIncomeAboveThreshold_whenGetResultIsInvoked_thenResultIsPass() {
-        BigDecimal disposableIncome =
-                assessmentCriteria.getEligibilityThreshold().add(BigDecimal.valueOf(0.01));
+        BigDecimal disposableIncome = assessmentCriteria.eligibilityThreshold().add(BigDecimal.valueOf(0.01));
         meansAssessment.setEligibilityCheckRequired(true);
         assertThat(fullMeansAssessmentService.getResult(disposableIncome, meansAssessment, assessmentCriteria))
                 .isEqualTo(FullAssessmentResult.INEL);
@@ -1,11 +1,17 @@
 package uk.gov.justice.laa.crime.meansassessment.service;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.IncomeEvidenceEntity;
 import uk.gov.justice.laa.crime.meansassessment.staticdata.repository.IncomeEvidenceRepository;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,6 +21,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class IncomeEvidenceServiceTest {
 
+    private static final IncomeEvidenceEntity NINO = IncomeEvidenceEntity.builder()
+            .id("NINO")
+            .description("National insurance number")
+            .welshLetterDescription("Rhif yswiriant gwladol")
+            .build();
+    private static final IncomeEvidenceEntity SIGNATURE = IncomeEvidenceEntity.builder()
+            .id("SIGNATURE")
+            .description("Signature")
+            .build();
+
     @InjectMocks
     private IncomeEvidenceService incomeEvidenceService;
 
@@ -23,7 +39,49 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void testIncomeEvidenceService_whenGetIncomeEvidenceByIdInvoked_shouldSuccess() {
-        incomeEvidenceService.getIncomeEvidenceById("NINO");
-        verify(incomeEvidenceRepository, times(1)).findById(any());
+        when(incomeEvidenceRepository.findAll()).thenReturn(List.of(NINO, SIGNATURE));
+
+        assertThat(incomeEvidenceService.getIncomeEvidenceById("NINO")).contains(IncomeEvidence.of(NINO));
+        assertThat(incomeEvidenceService.getIncomeEvidenceById("UNKNOWN")).isEmpty();
+        verify(incomeEvidenceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void givenManyEvidenceCodes_whenGetIncomeEvidenceByIdsInvoked_thenKnownCodesAreResolvedWithOneQuery() {
+        when(incomeEvidenceRepository.findAll()).thenReturn(List.of(NINO, SIGNATURE));
+
+        Map<String, IncomeEvidence> incomeEvidence =
+                incomeEvidenceService.getIncomeEvidenceByIds(Arrays.asList("SIGNATURE", "UNKNOWN", null, "NINO"));
+
+        assertThat(incomeEvidence).containsOnlyKeys("SIGNATURE", "NINO");
+        assertThat(incomeEvidence.get("NINO").welshLetterDescription()).isEqualTo("Rhif yswiriant gwladol");
+        verify(incomeEvidenceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void givenCatalogueIsLoaded_whenEntityChanges_thenServedEvidenceIsUnchanged() {
+        IncomeEvidenceEntity entity =
+                IncomeEvidenceEntity.builder().id("NINO").description("National insurance number").build();
+        when(incomeEvidenceRepository.findAll()).thenReturn(List.of(entity));
+        incomeEvidenceService.onApplicationReady();
+
+        entity.setDescription("Changed");
+
+        assertThat(incomeEvidenceService.getIncomeEvidenceById("NINO"))
+                .map(IncomeEvidence::description)
+                .contains("National insurance number");
+    }
+
+    @Test
+    void givenRefreshFails_whenRefreshInvoked_thenCurrentCatalogueIsKept() {
+        when(incomeEvidenceRepository.findAll())
+                .thenReturn(List.of(NINO))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        incomeEvidenceService.onApplicationReady();
+
+        incomeEvidenceService.refresh();
+
+        assertThat(incomeEvidenceService.getIncomeEvidenceById("NINO")).contains(IncomeEvidence.of(NINO));
+        verify(incomeEvidenceRepository, times(2)).findAll();
     }
 }
@@ -11,7 +11,9 @@ import uk.gov.justice.laa.crime.enums.NewWorkReason;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -27,8 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class InitMeansAssessmentServiceTest {
 
-    private final AssessmentCriteriaEntity assessmentCriteria =
-            TestModelDataBuilder.getAssessmentCriteriaEntityWithDetails();
+    private final AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaWithDetails();
 
     private final BigDecimal upperThreshold = TestModelDataBuilder.TEST_INITIAL_UPPER_THRESHOLD;
     private final BigDecimal lowerThreshold = TestModelDataBuilder.TEST_INITIAL_LOWER_THRESHOLD;
@@ -39,11 +40,14 @@ class InitMeansAssessmentServiceTest {
     @InjectMocks
     private InitMeansAssessmentService initMeansAssessmentService;
 
+    @Spy
+    private MeansCalculationKernel calculationKernel = new BigDecimalMeansCalculationKernel();
+
     @Mock
     private AssessmentCriteriaChildWeightingService childWeightingService;
 
     private void setupChildWeightingMock() {
-        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteriaEntity.class)))
+        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteria.class)))
                 .thenReturn(TestModelDataBuilder.TEST_TOTAL_CHILD_WEIGHTING);
     }
 
@@ -150,7 +154,7 @@ class InitMeansAssessmentServiceTest {
     @Test
     void givenZeroAnnualTotal_whenGetAdjustedIncomeIsInvoked_thenReturnsZero() {
         BigDecimal annualTotal = BigDecimal.ZERO;
-        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteriaEntity.class)))
+        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteria.class)))
                 .thenReturn(BigDecimal.ZERO);
         assertThat(initMeansAssessmentService.getAdjustedIncome(
                         TestModelDataBuilder.getMeansAssessmentRequestDTO(true), assessmentCriteria, annualTotal))
@@ -164,12 +168,12 @@ class InitMeansAssessmentServiceTest {
             BigDecimal partnerWeighting,
             BigDecimal expectedValue) {
 
-        AssessmentCriteriaEntity testAssessmentCriteria = AssessmentCriteriaEntity.builder()
+        AssessmentCriteria testAssessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
                 .applicantWeightingFactor(applicantWeighting)
                 .partnerWeightingFactor(partnerWeighting)
                 .build();
 
-        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteriaEntity.class)))
+        when(childWeightingService.getTotalChildWeighting(anyList(), any(AssessmentCriteria.class)))
                 .thenReturn(totalChildWeighting);
 
         assertThat(initMeansAssessmentService.getAdjustedIncome(
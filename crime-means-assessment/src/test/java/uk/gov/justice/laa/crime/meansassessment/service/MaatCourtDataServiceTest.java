@@ -4,6 +4,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,12 +22,17 @@ import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.PassportAssess
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class MaatCourtDataServiceTest {
@@ -36,6 +43,11 @@ class MaatCourtDataServiceTest {
     @InjectMocks
     private MaatCourtDataService maatCourtDataService;
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void givenCreateRequest_whenPersistMeansAssessmentIsInvoked_thenPostRequestIsSentToCourtDataApi() {
         MaatApiAssessmentResponse expected = new MaatApiAssessmentResponse().withId(1234);
@@ -122,4 +134,79 @@ class MaatCourtDataServiceTest {
         maatCourtDataService.rollbackFinancialAssessment(TestModelDataBuilder.TEST_REP_ID, Map.of());
         verify(maatAPIClient).patchFinancialAssessment(anyMap(), anyInt());
     }
+
+    @Test
+    void givenRepOrderReadStartedInRequest_whenGetRepOrderIsInvoked_thenStartedReadIsTaken() {
+        CourtDataReads reads = beginRequest();
+        RepOrderDTO expected = new RepOrderDTO();
+        reads.startRepOrderRead(TestModelDataBuilder.TEST_REP_ID, CompletableFuture.completedFuture(expected));
+
+        RepOrderDTO response = maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(response).isSameAs(expected);
+        assertThat(reads.getSavedCalls()).isEqualTo(1);
+        verify(maatAPIClient, never()).getRepOrder(anyInt());
+    }
+
+    @Test
+    void givenStartedReadAlreadyTaken_whenGetRepOrderIsInvokedAgain_thenCourtDataApiIsCalled() {
+        CourtDataReads reads = beginRequest();
+        RepOrderDTO prefetched = new RepOrderDTO();
+        reads.startRepOrderRead(TestModelDataBuilder.TEST_REP_ID, CompletableFuture.completedFuture(prefetched));
+        when(maatAPIClient.getRepOrder(TestModelDataBuilder.TEST_REP_ID)).thenReturn(new RepOrderDTO());
+
+        maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+        RepOrderDTO response = maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(response).isNotSameAs(prefetched);
+        assertThat(reads.getSavedCalls()).isEqualTo(1);
+        verify(maatAPIClient, times(1)).getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenStartedReadFailed_whenGetRepOrderIsInvoked_thenCourtDataApiIsCalled() {
+        CourtDataReads reads = beginRequest();
+        RepOrderDTO expected = new RepOrderDTO();
+        reads.startRepOrderRead(
+                TestModelDataBuilder.TEST_REP_ID, CompletableFuture.failedFuture(new IllegalStateException()));
+        when(maatAPIClient.getRepOrder(TestModelDataBuilder.TEST_REP_ID)).thenReturn(expected);
+
+        RepOrderDTO response = maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(response).isSameAs(expected);
+        assertThat(reads.getSavedCalls()).isZero();
+    }
+
+    @Test
+    void givenWriteMadeInRequest_whenRepOrderIsRead_thenStartedReadIsCancelled() {
+        CourtDataReads reads = beginRequest();
+        CompletableFuture<RepOrderDTO> started = new CompletableFuture<>();
+        reads.startRepOrderRead(TestModelDataBuilder.TEST_REP_ID, started);
+        when(maatAPIClient.getRepOrder(TestModelDataBuilder.TEST_REP_ID)).thenReturn(new RepOrderDTO());
+
+        maatCourtDataService.rollbackFinancialAssessment(TestModelDataBuilder.TEST_REP_ID, Map.of());
+        maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(started.isCancelled()).isTrue();
+        assertThat(reads.getSavedCalls()).isZero();
+        verify(maatAPIClient, times(1)).getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenNoRequestInProgress_whenGetRepOrderIsInvokedTwice_thenCourtDataApiIsCalledEachTime() {
+        when(maatAPIClient.getRepOrder(TestModelDataBuilder.TEST_REP_ID)).thenReturn(new RepOrderDTO());
+
+        maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+        maatCourtDataService.getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+
+        verify(maatAPIClient, times(2)).getRepOrder(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    private static CourtDataReads beginRequest() {
+        CourtDataReads reads = new CourtDataReads();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(CourtDataReads.REQUEST_ATTRIBUTE, reads);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return reads;
+    }
 }
@@ -3,7 +3,6 @@ package uk.gov.justice.laa.crime.meansassessment.service;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -37,12 +36,15 @@ import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinAssIncomeEv
 import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.FinancialAssessmentDTO;
 import uk.gov.justice.laa.crime.meansassessment.exception.AssessmentProcessingException;
 import uk.gov.justice.laa.crime.meansassessment.factory.MeansAssessmentServiceFactory;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.assertj.core.api.SoftAssertions;
@@ -55,12 +57,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 @ExtendWith(MockitoExtension.class)
 class MeansAssessmentServiceTest {
 
-    private final AssessmentCriteriaEntity assessmentCriteria =
-            TestModelDataBuilder.getAssessmentCriteriaEntityWithDetails();
+    private final AssessmentCriteria assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaWithDetails();
 
     private final MeansAssessmentRequestDTO meansAssessment = TestModelDataBuilder.getMeansAssessmentRequestDTO(true);
 
@@ -71,6 +73,9 @@ class MeansAssessmentServiceTest {
     @InjectMocks
     private MeansAssessmentService meansAssessmentService;
 
+    @Spy
+    private MeansCalculationKernel calculationKernel = new BigDecimalMeansCalculationKernel();
+
     @Mock
     private AssessmentCriteriaService assessmentCriteriaService;
 
@@ -107,6 +112,9 @@ class MeansAssessmentServiceTest {
     @Mock
     private IncomeEvidenceService incomeEvidenceService;
 
+    @Mock
+    private ObjectProvider<IncomeEvidenceService> incomeEvidenceServiceProvider;
+
     @Mock
     private CrownCourtEligibilityService crownCourtEligibilityService;
 
@@ -123,7 +131,7 @@ class MeansAssessmentServiceTest {
     }
 
     private void setupDoAssessmentStubbing(AssessmentType assessmentType) {
-        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class), anyBoolean(), anyBoolean()))
+        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class)))
                 .thenReturn(assessmentCriteria);
 
         when(assessmentBuilder.build(any(MeansAssessmentDTO.class), any(RequestType.class)))
@@ -148,7 +156,7 @@ class MeansAssessmentServiceTest {
 
         when(meansAssessmentResponseBuilder.build(
                         any(MaatApiAssessmentResponse.class),
-                        any(AssessmentCriteriaEntity.class),
+                        any(AssessmentCriteria.class),
                         any(MeansAssessmentDTO.class)))
                 .thenReturn(new ApiMeansAssessmentResponse());
     }
@@ -157,17 +165,12 @@ class MeansAssessmentServiceTest {
     void givenInitAssessmentType_whenDoAssessmentIsInvoked_thenCreateAssessmentIsPerformed() {
         setupDoAssessmentStubbing(AssessmentType.INIT);
         when(initMeansAssessmentService.execute(
-                        any(BigDecimal.class),
-                        any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(BigDecimal.class), any(MeansAssessmentRequestDTO.class), any(AssessmentCriteria.class)))
                 .thenReturn(TestModelDataBuilder.getMeansAssessmentDTO());
         meansAssessmentService.doAssessment(meansAssessment, RequestType.CREATE);
 
         verify(initMeansAssessmentService)
-                .execute(
-                        any(BigDecimal.class),
-                        any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class));
+                .execute(any(BigDecimal.class), any(MeansAssessmentRequestDTO.class), any(AssessmentCriteria.class));
         verify(fullAssessmentAvailabilityService)
                 .isFullAssessmentAvailable(
                         meansAssessment.getCaseType(),
@@ -177,7 +180,7 @@ class MeansAssessmentServiceTest {
         verify(meansAssessmentResponseBuilder)
                 .build(
                         any(MaatApiAssessmentResponse.class),
-                        any(AssessmentCriteriaEntity.class),
+                        any(AssessmentCriteria.class),
                         any(MeansAssessmentDTO.class));
     }
 
@@ -185,24 +188,19 @@ class MeansAssessmentServiceTest {
     void givenFullAssessmentType_whenDoAssessmentIsInvoked_thenFullAssessmentIsPerformed() {
         setupDoAssessmentStubbing(AssessmentType.FULL);
         when(fullMeansAssessmentService.execute(
-                        any(BigDecimal.class),
-                        any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(BigDecimal.class), any(MeansAssessmentRequestDTO.class), any(AssessmentCriteria.class)))
                 .thenReturn(TestModelDataBuilder.getMeansAssessmentDTO());
 
         meansAssessment.setAssessmentType(AssessmentType.FULL);
         meansAssessmentService.doAssessment(meansAssessment, RequestType.UPDATE);
 
         verify(fullMeansAssessmentService)
-                .execute(
-                        any(BigDecimal.class),
-                        any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class));
+                .execute(any(BigDecimal.class), any(MeansAssessmentRequestDTO.class), any(AssessmentCriteria.class));
         verify(crownCourtEligibilityService).isEligibilityCheckRequired(any(MeansAssessmentRequestDTO.class));
         verify(meansAssessmentResponseBuilder)
                 .build(
                         any(MaatApiAssessmentResponse.class),
-                        any(AssessmentCriteriaEntity.class),
+                        any(AssessmentCriteria.class),
                         any(MeansAssessmentDTO.class));
     }
 
@@ -211,7 +209,7 @@ class MeansAssessmentServiceTest {
 
         doThrow(new RuntimeException())
                 .when(assessmentCriteriaService)
-                .getAssessmentCriteria(any(LocalDateTime.class), anyBoolean(), anyBoolean());
+                .getAssessmentCriteria(any(LocalDateTime.class));
 
         assertThatThrownBy(() -> meansAssessmentService.doAssessment(meansAssessment, RequestType.CREATE))
                 .isInstanceOf(AssessmentProcessingException.class)
@@ -257,7 +255,7 @@ class MeansAssessmentServiceTest {
     @Test
     void givenAssessmentDetails_whenGetAssessmentSectionSummaryInvoked_thenReturnAssessmentSectionSummaryList() {
 
-        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailEntity(
+        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetail(
                         TestModelDataBuilder.TEST_ASSESSMENT_SECTION_INITA)))
                 .when(assessmentCriteriaDetailService)
                 .getAssessmentCriteriaDetailById(any());
@@ -279,7 +277,7 @@ class MeansAssessmentServiceTest {
 
     @Test
     void testGetAssessmentDTOInvoked_whenAssessmentCriteriaDetailFound_thenReturnAssessment() {
-        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailEntity(
+        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetail(
                         TestModelDataBuilder.TEST_ASSESSMENT_SECTION_INITA)))
                 .when(assessmentCriteriaDetailService)
                 .getAssessmentCriteriaDetailById(any());
@@ -337,7 +335,7 @@ class MeansAssessmentServiceTest {
 
     @Test
     void givenAssessmentId_whenGetOldAssessmentInvoked_thenReturnAssessment() {
-        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetailEntity(
+        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaDetail(
                         TestModelDataBuilder.TEST_ASSESSMENT_SECTION_INITA)))
                 .when(assessmentCriteriaDetailService)
                 .getAssessmentCriteriaDetailById(any());
@@ -361,7 +359,7 @@ class MeansAssessmentServiceTest {
     @Test
     void givenChildWeightings_whenMapChildWeightingsInvoked_thenResponseIsPopulatedWithChildWeightingsList() {
         ApiInitialMeansAssessment apiInitialMeansAssessment = new ApiInitialMeansAssessment();
-        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaChildWeightingEntity()))
+        doReturn(Optional.of(TestModelDataBuilder.getAssessmentCriteriaChildWeighting(1)))
                 .when(assessmentCriteriaService)
                 .getAssessmentCriteriaChildWeightingsById(any());
         meansAssessmentService.mapChildWeightings(
@@ -429,6 +427,27 @@ class MeansAssessmentServiceTest {
                         .size());
     }
 
+    @Test
+    void givenIncomeEvidenceWithoutAdhocFlag_whenMapIncomeEvidenceInvoked_thenEvidenceTypeFlagIsUsed() {
+        FinancialAssessmentDTO financialAssessmentDTO =
+                TestModelDataBuilder.getFinancialAssessmentDTOWithIncomeEvidence();
+        financialAssessmentDTO.getFinAssIncomeEvidences().get(0).setAdhoc(null);
+        when(incomeEvidenceServiceProvider.getIfAvailable()).thenReturn(incomeEvidenceService);
+        when(incomeEvidenceService.getIncomeEvidenceByIds(List.of("SIGNATURE")))
+                .thenReturn(Map.of("SIGNATURE", new IncomeEvidence("SIGNATURE", "Signature", null, null, "N")));
+        ApiGetMeansAssessmentResponse apiGetMeansAssessmentResponse =
+                new ApiGetMeansAssessmentResponse().withIncomeEvidenceSummary(new ApiIncomeEvidenceSummary());
+
+        meansAssessmentService.mapIncomeEvidence(apiGetMeansAssessmentResponse, financialAssessmentDTO);
+
+        assertThat(apiGetMeansAssessmentResponse
+                        .getIncomeEvidenceSummary()
+                        .getIncomeEvidence()
+                        .get(0)
+                        .getAdhoc())
+                .isEqualTo("N");
+    }
+
     private void checkGenericResponseFields(
             ApiGetMeansAssessmentResponse response, FinancialAssessmentDTO financialAssessmentDTO) {
         SoftAssertions.assertSoftly(softly -> {
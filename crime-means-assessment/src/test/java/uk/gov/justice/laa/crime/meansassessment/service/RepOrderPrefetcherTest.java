@@ -0,0 +1,112 @@
+package uk.gov.justice.laa.crime.meansassessment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.laa.crime.enums.AssessmentType;
+import uk.gov.justice.laa.crime.meansassessment.client.MaatCourtDataApiClient;
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
+import uk.gov.justice.laa.crime.meansassessment.dto.maatcourtdata.RepOrderDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class RepOrderPrefetcherTest {
+
+    @Mock
+    private MaatCourtDataService maatCourtDataService;
+
+    @Mock
+    private MaatCourtDataApiClient maatCourtDataApiClient;
+
+    private RepOrderPrefetcher repOrderPrefetcher;
+
+    @BeforeEach
+    void setUp() {
+        repOrderPrefetcher = new RepOrderPrefetcher(maatCourtDataService, new SimpleAsyncTaskExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void givenFullAssessmentInRequest_whenPrefetchIsInvoked_thenRepOrderIsReadForTheRequest() {
+        CourtDataReads reads = beginRequest();
+        RepOrderDTO expected = new RepOrderDTO();
+        when(maatCourtDataService.fetchRepOrder(TestModelDataBuilder.TEST_REP_ID)).thenReturn(expected);
+
+        repOrderPrefetcher.prefetch(requestDTO(AssessmentType.FULL));
+
+        assertThat(reads.takeRepOrder(TestModelDataBuilder.TEST_REP_ID)).containsSame(expected);
+    }
+
+    @Test
+    void givenInitAssessment_whenPrefetchIsInvoked_thenNothingIsRead() {
+        CourtDataReads reads = beginRequest();
+
+        repOrderPrefetcher.prefetch(requestDTO(AssessmentType.INIT));
+
+        assertThat(reads.takeRepOrder(TestModelDataBuilder.TEST_REP_ID)).isEmpty();
+        verifyNoInteractions(maatCourtDataService);
+    }
+
+    @Test
+    void givenNoRequestInProgress_whenPrefetchIsInvoked_thenNothingIsRead() {
+        repOrderPrefetcher.prefetch(requestDTO(AssessmentType.FULL));
+
+        verifyNoInteractions(maatCourtDataService);
+    }
+
+    @Test
+    void givenRepOrderPrefetched_whenEligibilityIsCheckedInSameRequest_thenRepOrderIsFetchedOnce() {
+        CourtDataReads reads = beginRequest();
+        MaatCourtDataService courtDataService = new MaatCourtDataService(maatCourtDataApiClient);
+        RepOrderPrefetcher prefetcher = new RepOrderPrefetcher(courtDataService, new SimpleAsyncTaskExecutor());
+        CrownCourtEligibilityService eligibilityService = new CrownCourtEligibilityService(courtDataService);
+        MeansAssessmentRequestDTO requestDTO = TestModelDataBuilder.getMeansAssessmentRequestDTO(true);
+        requestDTO.setAssessmentType(AssessmentType.FULL);
+        when(maatCourtDataApiClient.getRepOrder(requestDTO.getRepId()))
+                .thenReturn(TestModelDataBuilder.getRepOrderDTOWithAssessments(
+                        new ArrayList<>(List.of(TestModelDataBuilder.getFinancialAssessmentDTO()))));
+
+        prefetcher.prefetch(requestDTO);
+        boolean eligibilityCheckRequired = eligibilityService.isEligibilityCheckRequired(requestDTO);
+
+        assertThat(eligibilityCheckRequired).isTrue();
+        assertThat(reads.getSavedCalls()).isEqualTo(1);
+        verify(maatCourtDataApiClient, times(1)).getRepOrder(requestDTO.getRepId());
+    }
+
+    private static MeansAssessmentRequestDTO requestDTO(AssessmentType assessmentType) {
+        return MeansAssessmentRequestDTO.builder()
+                .assessmentType(assessmentType)
+                .repId(TestModelDataBuilder.TEST_REP_ID)
+                .build();
+    }
+
+    private static CourtDataReads beginRequest() {
+        CourtDataReads reads = new CourtDataReads();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(CourtDataReads.REQUEST_ATTRIBUTE, reads);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return reads;
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.crime.meansassessment.util.RoundingUtils.setStandardScale;
+
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Weightings scaled once per period must give the same results as scaling every factor on every assessment did.
+ */
+class BigDecimalMeansCalculationKernelTest {
+
+    private static final List<BigDecimal> AMOUNTS = Stream.of("0", "0.005", "1", "12.5", "123.45", "31245.678")
+            .map(BigDecimal::new)
+            .toList();
+
+    private static final List<BigDecimal> WEIGHTINGS = Stream.of("0", "0.15", "0.3", "0.64", "1", "1.005", "0.125")
+            .map(BigDecimal::new)
+            .toList();
+
+    private final MeansCalculationKernel calculationKernel = new BigDecimalMeansCalculationKernel();
+
+    @Test
+    void givenPreScaledWeightings_whenCalculateAdjustedIncomeIsInvoked_thenResultMatchesPerRequestScaling() {
+        for (BigDecimal applicant : WEIGHTINGS) {
+            for (BigDecimal partner : WEIGHTINGS) {
+                ScaledAssessmentCriteria.Weightings weightings =
+                        ScaledAssessmentCriteria.Weightings.of(applicant, partner, BigDecimal.ONE);
+                for (BigDecimal children : WEIGHTINGS) {
+                    BigDecimal divisor = setStandardScale(applicant)
+                            .add(setStandardScale(partner))
+                            .add(setStandardScale(children));
+                    for (BigDecimal annualTotal : AMOUNTS) {
+                        if (divisor.signum() != 0) {
+                            assertThat(calculationKernel.calculateAdjustedIncome(annualTotal, weightings, children))
+                                    .isEqualTo(setStandardScale(annualTotal).divide(divisor, RoundingMode.HALF_UP));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenPreScaledWeightings_whenCalculateAdjustedLivingAllowanceIsInvoked_thenResultMatchesPerRequestScaling() {
+        for (BigDecimal allowance : AMOUNTS) {
+            for (BigDecimal applicant : WEIGHTINGS) {
+                for (BigDecimal partner : WEIGHTINGS) {
+                    ScaledAssessmentCriteria.Weightings weightings =
+                            ScaledAssessmentCriteria.Weightings.of(applicant, partner, allowance);
+                    for (BigDecimal children : WEIGHTINGS) {
+                        assertThat(calculationKernel.calculateAdjustedLivingAllowance(weightings, children))
+                                .isEqualTo(setStandardScale(allowance)
+                                        .multiply(setStandardScale(applicant)
+                                                .add(setStandardScale(partner))
+                                                .add(setStandardScale(children))));
+                    }
+                }
+            }
+        }
+    }
+}
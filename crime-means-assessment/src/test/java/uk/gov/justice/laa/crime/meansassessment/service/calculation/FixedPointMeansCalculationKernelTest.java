@@ -0,0 +1,213 @@
+package uk.gov.justice.laa.crime.meansassessment.service.calculation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.ScaledAssessmentCriteria;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential tests: every result from the fixed-point kernel must equal, in value and scale, what the reference
+ * BigDecimal kernel returns for the same inputs.
+ */
+class FixedPointMeansCalculationKernelTest {
+
+    private static final long SEED = 20240401L;
+    private static final int RANDOM_CASES = 20_000;
+
+    private static final List<BigDecimal> AMOUNTS = Stream.of(
+                    "0", "0.00", "0.000", "0.01", "0.004", "0.005", "0.015", "0.125", "1", "10", "12.5", "99.99",
+                    "123.45", "1000000", "-0.01", "-0.005", "-12.345", "-250.00", "2E+3", "1.23E+2", "0.1234567",
+                    "9999999999999999.99", "92233720368547758.07", "1E+30")
+            .map(BigDecimal::new)
+            .toList();
+
+    private static final List<BigDecimal> WEIGHTINGS = Stream.of(
+                    "0", "0.00", "0.15", "0.3", "0.35", "0.5", "0.64", "1", "1.005", "0.125", "2.50", "-1", "1E+20")
+            .map(BigDecimal::new)
+            .toList();
+
+    private final MeansCalculationKernel reference = new BigDecimalMeansCalculationKernel();
+    private final MeansCalculationKernel fixedPoint = new FixedPointMeansCalculationKernel();
+
+    @Test
+    void givenAmountCorpus_whenCalculateDetailTotalIsInvoked_thenResultMatchesReference() {
+        List<BigDecimal> amounts = new ArrayList<>(AMOUNTS);
+        amounts.add(null);
+        for (BigDecimal amount : amounts) {
+            assertSameOutcome(
+                    () -> reference.calculateDetailTotal(amount, null),
+                    () -> fixedPoint.calculateDetailTotal(amount, null));
+            for (Frequency frequency : Frequency.values()) {
+                assertSameOutcome(
+                        () -> reference.calculateDetailTotal(amount, frequency),
+                        () -> fixedPoint.calculateDetailTotal(amount, frequency));
+            }
+        }
+    }
+
+    @Test
+    void givenWeightingCorpus_whenCalculateAdjustedIncomeIsInvoked_thenResultMatchesReference() {
+        for (BigDecimal applicant : WEIGHTINGS) {
+            for (BigDecimal partner : WEIGHTINGS) {
+                ScaledAssessmentCriteria.Weightings weightings =
+                        ScaledAssessmentCriteria.Weightings.of(applicant, partner, BigDecimal.ONE);
+                for (BigDecimal children : WEIGHTINGS) {
+                    for (BigDecimal annualTotal : AMOUNTS) {
+                        assertSameOutcome(
+                                () -> reference.calculateAdjustedIncome(annualTotal, weightings, children),
+                                () -> fixedPoint.calculateAdjustedIncome(annualTotal, weightings, children));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenWeightingCorpus_whenCalculateAdjustedLivingAllowanceIsInvoked_thenResultMatchesReference() {
+        for (BigDecimal allowance : AMOUNTS) {
+            for (BigDecimal applicant : WEIGHTINGS) {
+                for (BigDecimal partner : WEIGHTINGS) {
+                    ScaledAssessmentCriteria.Weightings weightings =
+                            ScaledAssessmentCriteria.Weightings.of(applicant, partner, allowance);
+                    for (BigDecimal children : WEIGHTINGS) {
+                        assertSameOutcome(
+                                () -> reference.calculateAdjustedLivingAllowance(weightings, children),
+                                () -> fixedPoint.calculateAdjustedLivingAllowance(weightings, children));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenRandomInputs_whenCalculationsAreInvoked_thenResultsMatchReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            BigDecimal amount = randomAmount(random);
+            Frequency frequency = randomFrequency(random);
+            ScaledAssessmentCriteria.Weightings weightings = ScaledAssessmentCriteria.Weightings.of(
+                    randomWeighting(random), randomWeighting(random), randomAmount(random));
+            BigDecimal children = randomWeighting(random);
+
+            assertSameOutcome(
+                    () -> reference.calculateDetailTotal(amount, frequency),
+                    () -> fixedPoint.calculateDetailTotal(amount, frequency));
+            assertSameOutcome(
+                    () -> reference.calculateAdjustedIncome(amount, weightings, children),
+                    () -> fixedPoint.calculateAdjustedIncome(amount, weightings, children));
+            assertSameOutcome(
+                    () -> reference.calculateAdjustedLivingAllowance(weightings, children),
+                    () -> fixedPoint.calculateAdjustedLivingAllowance(weightings, children));
+        }
+    }
+
+    @Test
+    void givenRandomSections_whenTotalsAreAccumulated_thenTotalsMatchReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_CASES / 10; i++) {
+            MeansCalculationKernel.Accumulator expected = reference.newAccumulator();
+            MeansCalculationKernel.Accumulator actual = fixedPoint.newAccumulator();
+            int sections = random.nextInt(4);
+            for (int section = 0; section < sections; section++) {
+                MeansCalculationKernel.Accumulator expectedSection = reference.newAccumulator();
+                MeansCalculationKernel.Accumulator actualSection = fixedPoint.newAccumulator();
+                int details = random.nextInt(4);
+                for (int detail = 0; detail < details; detail++) {
+                    BigDecimal amount = random.nextInt(5) == 0 ? null : randomAmount(random);
+                    Frequency frequency = randomFrequency(random);
+                    expectedSection.addDetail(amount, frequency);
+                    actualSection.addDetail(amount, frequency);
+                }
+                assertThat(actualSection.getTotal()).isEqualTo(expectedSection.getTotal());
+                expected.addAll(expectedSection);
+                actual.addAll(actualSection);
+            }
+            assertThat(actual.getTotal()).isEqualTo(expected.getTotal());
+        }
+    }
+
+    @Test
+    void givenTotalBeyondLongRange_whenTotalsAreAccumulated_thenTotalsMatchReference() {
+        BigDecimal amount = new BigDecimal("9999999999999999.99");
+        MeansCalculationKernel.Accumulator expected = reference.newAccumulator();
+        MeansCalculationKernel.Accumulator actual = fixedPoint.newAccumulator();
+        MeansCalculationKernel.Accumulator expectedSection = reference.newAccumulator();
+        MeansCalculationKernel.Accumulator actualSection = fixedPoint.newAccumulator();
+        for (int i = 0; i < 20; i++) {
+            expectedSection.addDetail(amount, Frequency.ANNUALLY);
+            actualSection.addDetail(amount, Frequency.ANNUALLY);
+        }
+        expected.addAll(expectedSection);
+        expected.addAll(expectedSection);
+        actual.addAll(actualSection);
+        actual.addAll(actualSection);
+
+        assertThat(actualSection.getTotal()).isEqualTo(expectedSection.getTotal());
+        assertThat(actual.getTotal()).isEqualTo(expected.getTotal());
+    }
+
+    @Test
+    void givenEmptyAccumulators_whenTotalsAreAccumulated_thenUnscaledZeroIsReturned() {
+        MeansCalculationKernel.Accumulator total = fixedPoint.newAccumulator();
+        total.addAll(fixedPoint.newAccumulator());
+
+        assertThat(total.getTotal()).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void givenRemainderOfHalfOrMore_whenDivideHalfUpIsInvoked_thenQuotientIsRoundedAwayFromZero() {
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(5, 2)).isEqualTo(3);
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(-5, 2)).isEqualTo(-3);
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(5, -2)).isEqualTo(-3);
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(7, 3)).isEqualTo(2);
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(8, 3)).isEqualTo(3);
+        assertThat(FixedPointMeansCalculationKernel.divideHalfUp(6, 3)).isEqualTo(2);
+    }
+
+    @Test
+    void givenSubPennyValue_whenToHundredthsIsInvoked_thenValueIsRoundedHalfUp() {
+        assertThat(FixedPointMeansCalculationKernel.toHundredths(new BigDecimal("0.005")))
+                .isEqualTo(1);
+        assertThat(FixedPointMeansCalculationKernel.toHundredths(new BigDecimal("-0.005")))
+                .isEqualTo(-1);
+        assertThat(FixedPointMeansCalculationKernel.toHundredths(new BigDecimal("1E+3")))
+                .isEqualTo(100_000);
+    }
+
+    private static void assertSameOutcome(Supplier<BigDecimal> expected, Supplier<BigDecimal> actual) {
+        assertThat(outcome(actual)).isEqualTo(outcome(expected));
+    }
+
+    // A calculation that fails must fail in the same way on both kernels
+    private static Object outcome(Supplier<BigDecimal> calculation) {
+        try {
+            return calculation.get();
+        } catch (ArithmeticException e) {
+            return e.getClass();
+        }
+    }
+
+    // Up to four decimal places, so sub-penny amounts are covered
+    private static BigDecimal randomAmount(Random random) {
+        return BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), random.nextInt(5));
+    }
+
+    private static BigDecimal randomWeighting(Random random) {
+        return BigDecimal.valueOf(random.nextInt(0, 2_000), random.nextInt(4));
+    }
+
+    private static Frequency randomFrequency(Random random) {
+        Frequency[] frequencies = Frequency.values();
+        int index = random.nextInt(frequencies.length + 1);
+        return index < frequencies.length ? frequencies[index] : null;
+    }
+}
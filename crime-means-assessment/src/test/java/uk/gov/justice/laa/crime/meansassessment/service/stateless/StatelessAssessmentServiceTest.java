@@ -2,10 +2,8 @@ package uk.gov.justice.laa.crime.meansassessment.service.stateless;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
@@ -31,7 +29,9 @@ import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaServic
 import uk.gov.justice.laa.crime.meansassessment.service.FullAssessmentAvailabilityService;
 import uk.gov.justice.laa.crime.meansassessment.service.FullMeansAssessmentService;
 import uk.gov.justice.laa.crime.meansassessment.service.InitMeansAssessmentService;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.BigDecimalMeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.service.calculation.MeansCalculationKernel;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -50,13 +51,15 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ExtendWith(SpringExtension.class)
 class StatelessAssessmentServiceTest {
 
-    private static final AssessmentCriteriaEntity mockAssessmentCriteria =
-            TestModelDataBuilder.getAssessmentCriteriaEntity();
+    private static final AssessmentCriteria mockAssessmentCriteria = TestModelDataBuilder.getAssessmentCriteria();
     private static final BigDecimal adjustedLivingAllowance = BigDecimal.valueOf(10000.67);
 
     @InjectMocks
     private StatelessAssessmentService statelessAssessmentService;
 
+    @Spy
+    private MeansCalculationKernel calculationKernel = new BigDecimalMeansCalculationKernel();
+
     @Mock
     private InitMeansAssessmentService initMeansAssessmentService;
 
@@ -75,7 +78,7 @@ class StatelessAssessmentServiceTest {
     private void setupStubs() {
         when(meansAssessmentServiceFactory.getService(AssessmentType.INIT)).thenReturn(initMeansAssessmentService);
         when(meansAssessmentServiceFactory.getService(AssessmentType.FULL)).thenReturn(fullMeansAssessmentService);
-        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class), anyBoolean(), anyBoolean()))
+        when(assessmentCriteriaService.getAssessmentCriteria(any(LocalDateTime.class)))
                 .thenReturn(mockAssessmentCriteria);
     }
 
@@ -94,7 +97,7 @@ class StatelessAssessmentServiceTest {
         when(initMeansAssessmentService.execute(
                         any(BigDecimal.class),
                         any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(AssessmentCriteria.class)))
                 .thenReturn(MeansAssessmentDTO.builder()
                         .initAssessmentResult(InitAssessmentResult.PASS)
                         .build());
@@ -102,10 +105,10 @@ class StatelessAssessmentServiceTest {
         try (MockedStatic<StatelessDataAdapter> adapter = Mockito.mockStatic(StatelessDataAdapter.class)) {
 
             adapter.when(() -> StatelessDataAdapter.mapIncomesToSectionSummaries(
-                            any(AssessmentCriteriaEntity.class), anyList()))
+                            any(AssessmentCriteria.class), anyList()))
                     .thenReturn(TestModelDataBuilder.getApiAssessmentSummaries(true));
 
-            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anySet()))
+            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anyList()))
                     .thenReturn(TestModelDataBuilder.getAssessmentChildWeightings());
 
             var overallResult = getAssessmentOutcome(StatelessRequestType.INITIAL);
@@ -124,7 +127,7 @@ class StatelessAssessmentServiceTest {
         when(initMeansAssessmentService.execute(
                         any(BigDecimal.class),
                         any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(AssessmentCriteria.class)))
                 .thenReturn(MeansAssessmentDTO.builder()
                         .initAssessmentResult(InitAssessmentResult.FULL)
                         .build());
@@ -132,7 +135,7 @@ class StatelessAssessmentServiceTest {
         when(fullMeansAssessmentService.execute(
                         any(BigDecimal.class),
                         any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(AssessmentCriteria.class)))
                 .thenReturn(MeansAssessmentDTO.builder()
                         .fullAssessmentResult(FullAssessmentResult.PASS)
                         .adjustedLivingAllowance(adjustedLivingAllowance)
@@ -145,14 +148,14 @@ class StatelessAssessmentServiceTest {
         try (MockedStatic<StatelessDataAdapter> adapter = Mockito.mockStatic(StatelessDataAdapter.class)) {
 
             adapter.when(() -> StatelessDataAdapter.mapIncomesToSectionSummaries(
-                            any(AssessmentCriteriaEntity.class), anyList()))
+                            any(AssessmentCriteria.class), anyList()))
                     .thenReturn(TestModelDataBuilder.getApiAssessmentSummaries(true));
 
             adapter.when(() -> StatelessDataAdapter.mapOutgoingsToSectionSummaries(
-                            any(AssessmentCriteriaEntity.class), anyList()))
+                            any(AssessmentCriteria.class), anyList()))
                     .thenReturn(TestModelDataBuilder.getApiAssessmentSummaries(true));
 
-            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anySet()))
+            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anyList()))
                     .thenReturn(TestModelDataBuilder.getAssessmentChildWeightings());
 
             var overallResult = getAssessmentOutcome(StatelessRequestType.BOTH);
@@ -168,7 +171,7 @@ class StatelessAssessmentServiceTest {
         when(initMeansAssessmentService.execute(
                         any(BigDecimal.class),
                         any(MeansAssessmentRequestDTO.class),
-                        any(AssessmentCriteriaEntity.class)))
+                        any(AssessmentCriteria.class)))
                 .thenReturn(MeansAssessmentDTO.builder()
                         .initAssessmentResult(InitAssessmentResult.FAIL)
                         .build());
@@ -180,10 +183,10 @@ class StatelessAssessmentServiceTest {
         try (MockedStatic<StatelessDataAdapter> adapter = Mockito.mockStatic(StatelessDataAdapter.class)) {
 
             adapter.when(() -> StatelessDataAdapter.mapIncomesToSectionSummaries(
-                            any(AssessmentCriteriaEntity.class), anyList()))
+                            any(AssessmentCriteria.class), anyList()))
                     .thenReturn(TestModelDataBuilder.getApiAssessmentSummaries(true));
 
-            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anySet()))
+            adapter.when(() -> StatelessDataAdapter.mapChildGroupings(anyMap(), anyList()))
                     .thenReturn(TestModelDataBuilder.getAssessmentChildWeightings());
 
             var overallResult = getAssessmentOutcome(StatelessRequestType.BOTH);
@@ -196,14 +199,14 @@ class StatelessAssessmentServiceTest {
 
     private void validateInitialResult(StatelessInitialResult initialResult, InitAssessmentResult expected) {
         assertThat(initialResult.getResult()).isEqualTo(expected);
-        assertThat(initialResult.getLowerThreshold()).isEqualTo(mockAssessmentCriteria.getInitialLowerThreshold());
-        assertThat(initialResult.getUpperThreshold()).isEqualTo(mockAssessmentCriteria.getInitialUpperThreshold());
+        assertThat(initialResult.getLowerThreshold()).isEqualTo(mockAssessmentCriteria.initialLowerThreshold());
+        assertThat(initialResult.getUpperThreshold()).isEqualTo(mockAssessmentCriteria.initialUpperThreshold());
     }
 
     private void validateFullResult(StatelessFullResult fullResult, FullAssessmentResult expected) {
         assertThat(fullResult.getResult()).isEqualTo(expected);
         assertThat(fullResult.getAdjustedLivingAllowance()).isEqualTo(adjustedLivingAllowance);
-        assertThat(fullResult.getEligibilityThreshold()).isEqualTo(mockAssessmentCriteria.getEligibilityThreshold());
+        assertThat(fullResult.getEligibilityThreshold()).isEqualTo(mockAssessmentCriteria.eligibilityThreshold());
     }
 
     private StatelessResult getAssessmentOutcome(StatelessRequestType requestType) {
@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.crime.meansassessment.service.stateless;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentChildWeighting;
 import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
@@ -13,76 +14,38 @@ import uk.gov.justice.laa.crime.meansassessment.FrequencyAmount;
 import uk.gov.justice.laa.crime.meansassessment.Income;
 import uk.gov.justice.laa.crime.meansassessment.Outgoing;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaChildWeightingEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaDetailEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentCriteriaEntity;
-import uk.gov.justice.laa.crime.meansassessment.staticdata.entity.AssessmentDetailEntity;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteria;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaChildWeighting;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot.AssessmentCriteriaDetail;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class StatelessDataAdaptorTest {
 
-    private final AssessmentCriteriaEntity assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaEntity();
-    private Set<AssessmentCriteriaChildWeightingEntity> childWeightingEntities;
+    private AssessmentCriteria assessmentCriteria;
+    private List<AssessmentCriteriaChildWeighting> childWeightings;
 
     @BeforeEach
     void setup() {
-        assessmentCriteria.setAssessmentCriteriaDetails(Set.of(
-                AssessmentCriteriaDetailEntity.builder()
-                        .id(135)
-                        .section("INITB")
-                        .assessmentDetail(AssessmentDetailEntity.builder()
-                                .detailCode("EMP_INC")
-                                .build())
-                        .build(),
-                AssessmentCriteriaDetailEntity.builder()
-                        .id(136)
-                        .section("INITA")
-                        .assessmentDetail(AssessmentDetailEntity.builder()
-                                .detailCode("SELF_EMP")
-                                .build())
-                        .build(),
-                AssessmentCriteriaDetailEntity.builder()
-                        .id(137)
-                        .section("FULLA")
-                        .assessmentDetail(AssessmentDetailEntity.builder()
-                                .detailCode("COUNCIL")
-                                .build())
-                        .build(),
-                AssessmentCriteriaDetailEntity.builder()
-                        .id(138)
-                        .section("FULLB")
-                        .assessmentDetail(AssessmentDetailEntity.builder()
-                                .detailCode("NI")
-                                .build())
-                        .build()));
-
-        childWeightingEntities = Set.of(
-                AssessmentCriteriaChildWeightingEntity.builder()
-                        .id(1)
-                        .lowerAgeRange(0)
-                        .upperAgeRange(1)
-                        .weightingFactor(BigDecimal.valueOf(0.15))
-                        .build(),
-                AssessmentCriteriaChildWeightingEntity.builder()
-                        .id(2)
-                        .lowerAgeRange(2)
-                        .upperAgeRange(4)
-                        .weightingFactor(BigDecimal.valueOf(0.25))
-                        .build(),
-                AssessmentCriteriaChildWeightingEntity.builder()
-                        .id(3)
-                        .lowerAgeRange(5)
-                        .upperAgeRange(7)
-                        .weightingFactor(BigDecimal.valueOf(0.35))
-                        .build());
+        assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .details(List.of(
+                        criteriaDetail(135, "INITB", "EMP_INC"),
+                        criteriaDetail(136, "INITA", "SELF_EMP"),
+                        criteriaDetail(137, "FULLA", "COUNCIL"),
+                        criteriaDetail(138, "FULLB", "NI")))
+                .build();
+
+        childWeightings = List.of(
+                new AssessmentCriteriaChildWeighting(1, 0, 1, BigDecimal.valueOf(0.15)),
+                new AssessmentCriteriaChildWeighting(2, 2, 4, BigDecimal.valueOf(0.25)),
+                new AssessmentCriteriaChildWeighting(3, 5, 7, BigDecimal.valueOf(0.35)));
     }
 
     @Test
@@ -215,6 +178,32 @@ class StatelessDataAdaptorTest {
         assertThat(result).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
     }
 
+    @Test
+    void givenIncomesInOneSection_whenMapIncomesToSectionSummariesIsInvoked_thenOneSummaryIsReturned() {
+        assessmentCriteria = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .details(List.of(criteriaDetail(135, "INITB", "EMP_INC"), criteriaDetail(139, "INITB", "CHILD_BEN")))
+                .build();
+        List<Income> incomes = List.of(
+                buildIncome(IncomeType.EMPLOYMENT_INCOME, BigDecimal.valueOf(1500), Frequency.MONTHLY),
+                buildIncome(IncomeType.CHILD_BENEFIT, BigDecimal.valueOf(80), Frequency.WEEKLY));
+
+        var result = StatelessDataAdapter.mapIncomesToSectionSummaries(assessmentCriteria, incomes);
+
+        var expected = List.of(new ApiAssessmentSectionSummary()
+                .withSection("INITB")
+                .withAssessmentDetails(List.of(
+                        new ApiAssessmentDetail()
+                                .withCriteriaDetailId(135)
+                                .withApplicantAmount(BigDecimal.valueOf(1500))
+                                .withApplicantFrequency(Frequency.MONTHLY),
+                        new ApiAssessmentDetail()
+                                .withCriteriaDetailId(139)
+                                .withApplicantAmount(BigDecimal.valueOf(80))
+                                .withApplicantFrequency(Frequency.WEEKLY))));
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+    }
+
     @Test
     void givenValidWeightsAndNoGroupings_whenMapChildGroupingsIsInvoked_thenMappingIsPerformed() {
 
@@ -223,7 +212,7 @@ class StatelessDataAdaptorTest {
                 new ApiAssessmentChildWeighting().withChildWeightingId(2).withNoOfChildren(0),
                 new ApiAssessmentChildWeighting().withChildWeightingId(3).withNoOfChildren(0));
 
-        var result = StatelessDataAdapter.mapChildGroupings(Collections.emptyMap(), childWeightingEntities);
+        var result = StatelessDataAdapter.mapChildGroupings(Collections.emptyMap(), childWeightings);
         assertThat(result).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
     }
 
@@ -240,10 +229,22 @@ class StatelessDataAdaptorTest {
                 new ApiAssessmentChildWeighting().withChildWeightingId(2).withNoOfChildren(0),
                 new ApiAssessmentChildWeighting().withChildWeightingId(3).withNoOfChildren(2));
 
-        var result = StatelessDataAdapter.mapChildGroupings(childGroupings, childWeightingEntities);
+        var result = StatelessDataAdapter.mapChildGroupings(childGroupings, childWeightings);
         assertThat(result).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
     }
 
+    @Test
+    void givenGroupingWithoutWeighting_whenMapChildGroupingsIsInvoked_thenExceptionIsThrown() {
+        Map<AgeRange, Integer> childGroupings = Map.of(AgeRange.EIGHT_TO_TEN, 1);
+
+        assertThatThrownBy(() -> StatelessDataAdapter.mapChildGroupings(childGroupings, childWeightings))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private AssessmentCriteriaDetail criteriaDetail(Integer id, String section, String detailCode) {
+        return AssessmentCriteriaDetail.builder().id(id).section(section).detailCode(detailCode).build();
+    }
+
     private Income buildIncome(IncomeType incomeType, BigDecimal applicantAmount, Frequency applicantFrequency) {
         return buildIncome(incomeType, applicantAmount, applicantFrequency, null, null);
     }
@@ -0,0 +1,160 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StatelessRequestCoalescerTest {
+
+    private static final StatelessResultKey KEY = new StatelessResultKey("v1", "request");
+    private static final StatelessResult RESULT = new StatelessResult(null, null);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger assessments = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenIdenticalRequestInFlight_whenExecuteIsInvoked_thenAssessmentIsShared() throws Exception {
+        StatelessRequestCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<StatelessResult> leader =
+                CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, blockingAssessment(release)), executor);
+        awaitInFlight();
+        CompletableFuture<StatelessResult> follower =
+                CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, blockingAssessment(release)), executor);
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(assessments).hasValue(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void givenLeaderFails_whenFollowerIsWaiting_thenFollowerReceivesTheSameFailure() throws Exception {
+        StatelessRequestCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        ValidationException failure = new ValidationException("Invalid request");
+
+        CompletableFuture<StatelessResult> leader = CompletableFuture.supplyAsync(
+                () -> coalescer.execute(KEY, () -> {
+                    await(release);
+                    throw failure;
+                }),
+                executor);
+        awaitInFlight();
+        CompletableFuture<Throwable> follower = CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        coalescer.execute(KEY, () -> RESULT);
+                        return null;
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                },
+                executor);
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void givenLeaderIsSlow_whenMaxWaitElapses_thenFollowerAssessesSeparately() throws Exception {
+        StatelessRequestCoalescer coalescer = coalescer(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<StatelessResult> leader =
+                CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, blockingAssessment(release)), executor);
+        awaitInFlight();
+
+        assertThat(coalescer.execute(KEY, this::assess)).isSameAs(RESULT);
+        assertThat(registry.get(StatelessRequestCoalescer.TIMEOUT_COUNTER).functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(assessments).hasValue(2);
+    }
+
+    @Test
+    void givenCoalescingIsDisabled_whenExecuteIsInvoked_thenRequestIsAssessedDirectly() {
+        StatelessRequestCoalescer coalescer = new StatelessRequestCoalescer(false, Duration.ofSeconds(5));
+        coalescer.bindTo(registry);
+
+        assertThat(coalescer.execute(KEY, this::assess)).isSameAs(RESULT);
+        assertThat(coalescer.execute(KEY, this::assess)).isSameAs(RESULT);
+        assertThat(assessments).hasValue(2);
+        assertThat(registry.find(StatelessRequestCoalescer.COALESCED_COUNTER).functionCounter()).isNull();
+    }
+
+    private StatelessRequestCoalescer coalescer(Duration maxWait) {
+        StatelessRequestCoalescer coalescer = new StatelessRequestCoalescer(true, maxWait);
+        coalescer.bindTo(registry);
+        return coalescer;
+    }
+
+    private StatelessResult assess() {
+        assessments.incrementAndGet();
+        return RESULT;
+    }
+
+    private Supplier<StatelessResult> blockingAssessment(CountDownLatch release) {
+        return () -> {
+            await(release);
+            return assess();
+        };
+    }
+
+    private double inFlight() {
+        return registry.get("stateless.assessment.in.flight").gauge().value();
+    }
+
+    private double coalesced() {
+        return registry.get(StatelessRequestCoalescer.COALESCED_COUNTER).functionCounter().count();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package uk.gov.justice.laa.crime.meansassessment.service.stateless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.common.model.meansassessment.stateless.Assessment;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.enums.InitAssessmentResult;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.enums.meansassessment.AgeRange;
+import uk.gov.justice.laa.crime.enums.meansassessment.IncomeType;
+import uk.gov.justice.laa.crime.enums.meansassessment.StatelessRequestType;
+import uk.gov.justice.laa.crime.meansassessment.FrequencyAmount;
+import uk.gov.justice.laa.crime.meansassessment.Income;
+import uk.gov.justice.laa.crime.meansassessment.Outgoing;
+import uk.gov.justice.laa.crime.meansassessment.StatelessFullResult;
+import uk.gov.justice.laa.crime.meansassessment.StatelessInitialResult;
+import uk.gov.justice.laa.crime.meansassessment.service.AssessmentCriteriaService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class StatelessResultCacheTest {
+
+    private static final LocalDateTime ASSESSMENT_DATE = LocalDateTime.of(2024, 4, 1, 0, 0);
+    private static final Income EMPLOYMENT_INCOME = income(IncomeType.EMPLOYMENT_INCOME, "1500.00");
+    private static final Income CHILD_BENEFIT = income(IncomeType.CHILD_BENEFIT, "80.00");
+    private static final List<Income> NO_INCOMES = List.of();
+    private static final List<Outgoing> NO_OUTGOINGS = List.of();
+    private static final StatelessResult RESULT = new StatelessResult(
+            null, StatelessInitialResult.builder().result(InitAssessmentResult.PASS).build());
+
+    @Mock
+    private StatelessAssessmentService statelessAssessmentService;
+
+    @Mock
+    private AssessmentCriteriaService assessmentCriteriaService;
+
+    @Test
+    void givenCacheIsDisabled_whenExecuteIsInvokedTwice_thenEachRequestIsAssessed() {
+        StatelessResultCache statelessResultCache = resultCache(false);
+        Assessment assessment = assessment();
+        List<Income> incomes = List.of(EMPLOYMENT_INCOME);
+        when(statelessAssessmentService.execute(assessment, Map.of(), incomes, NO_OUTGOINGS)).thenReturn(RESULT);
+
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+
+        verify(statelessAssessmentService, times(2)).execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+    }
+
+    @Test
+    void givenRepeatedRequest_whenExecuteIsInvoked_thenCachedResultIsReturned() {
+        StatelessResultCache statelessResultCache = resultCache(true);
+        Assessment assessment = assessment();
+        List<Income> incomes = List.of(EMPLOYMENT_INCOME);
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn("v1");
+        when(statelessAssessmentService.execute(assessment, Map.of(), incomes, NO_OUTGOINGS)).thenReturn(RESULT);
+
+        assertThat(statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS)).isSameAs(RESULT);
+        assertThat(statelessResultCache.execute(assessment(), Map.of(), List.of(EMPLOYMENT_INCOME), NO_OUTGOINGS))
+                .isSameAs(RESULT);
+
+        verify(statelessAssessmentService, times(1)).execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+    }
+
+    @Test
+    void givenCriteriaVersionChanges_whenExecuteIsInvoked_thenRequestIsAssessedAgain() {
+        StatelessResultCache statelessResultCache = resultCache(true);
+        Assessment assessment = assessment();
+        List<Income> incomes = List.of(EMPLOYMENT_INCOME);
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn("v1", "v2");
+        when(statelessAssessmentService.execute(assessment, Map.of(), incomes, NO_OUTGOINGS)).thenReturn(RESULT);
+
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+
+        verify(statelessAssessmentService, times(2)).execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+    }
+
+    @Test
+    void givenCacheIsEnabled_whenBoundToRegistry_thenHitRatioSizeAndWeightAreExported() {
+        StatelessResultCache statelessResultCache = resultCache(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Assessment assessment = assessment();
+        List<Income> incomes = List.of(EMPLOYMENT_INCOME);
+        when(assessmentCriteriaService.getCriteriaVersion()).thenReturn("v1");
+        when(statelessAssessmentService.execute(assessment, Map.of(), incomes, NO_OUTGOINGS)).thenReturn(RESULT);
+
+        statelessResultCache.bindTo(registry);
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+        statelessResultCache.execute(assessment, Map.of(), incomes, NO_OUTGOINGS);
+
+        assertThat(registry.get(StatelessResultCache.CACHE_NAME + ".hit.ratio").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(registry.get("cache.size")
+                        .tag("cache", StatelessResultCache.CACHE_NAME)
+                        .gauge()
+                        .value())
+                .isEqualTo(1);
+        assertThat(registry.get(StatelessResultCache.CACHE_NAME + ".weight").gauge().value())
+                .isEqualTo(new StatelessResultWeigher()
+                        .weigh(StatelessResultKey.of("v1", assessment, Map.of(), incomes, NO_OUTGOINGS), RESULT));
+    }
+
+    @Test
+    void givenFullAndInitialResults_whenWeighed_thenEachAmountIsCounted() {
+        StatelessResultKey key = StatelessResultKey.of("v1", assessment(), Map.of(), NO_INCOMES, NO_OUTGOINGS);
+        StatelessResult bothResults = new StatelessResult(
+                StatelessFullResult.builder()
+                        .disposableIncome(BigDecimal.ONE)
+                        .adjustedLivingAllowance(BigDecimal.ONE)
+                        .totalAnnualAggregatedExpenditure(BigDecimal.ONE)
+                        .build(),
+                StatelessInitialResult.builder()
+                        .adjustedIncomeValue(BigDecimal.ONE)
+                        .totalAggregatedIncome(BigDecimal.ONE)
+                        .build());
+        StatelessResultWeigher weigher = new StatelessResultWeigher();
+
+        assertThat(weigher.weigh(key, bothResults) - weigher.weigh(key, RESULT))
+                .isEqualTo(StatelessResultWeigher.FULL_RESULT_BYTES + 5 * StatelessResultWeigher.DECIMAL_BYTES);
+    }
+
+    @Test
+    void givenEquivalentRequests_whenKeysAreBuilt_thenKeysAreEqual() {
+        StatelessResultKey key = StatelessResultKey.of(
+                "v1", assessment(), Map.of(), List.of(EMPLOYMENT_INCOME, CHILD_BENEFIT), NO_OUTGOINGS);
+        StatelessResultKey reordered = StatelessResultKey.of(
+                "v1",
+                assessment(),
+                Map.of(AgeRange.ZERO_TO_ONE, 0),
+                List.of(CHILD_BENEFIT, EMPLOYMENT_INCOME),
+                NO_OUTGOINGS);
+
+        assertThat(reordered).isEqualTo(key);
+    }
+
+    @Test
+    void givenDifferentRequests_whenKeysAreBuilt_thenKeysDiffer() {
+        StatelessResultKey key =
+                StatelessResultKey.of("v1", assessment(), Map.of(), List.of(EMPLOYMENT_INCOME), NO_OUTGOINGS);
+
+        assertThat(StatelessResultKey.of(
+                        "v1",
+                        assessment(),
+                        Map.of(),
+                        List.of(income(IncomeType.EMPLOYMENT_INCOME, "1500.01")),
+                        NO_OUTGOINGS))
+                .isNotEqualTo(key);
+        assertThat(StatelessResultKey.of(
+                        "v1",
+                        assessment().withHasPartner(true),
+                        Map.of(),
+                        List.of(EMPLOYMENT_INCOME),
+                        NO_OUTGOINGS))
+                .isNotEqualTo(key);
+        assertThat(StatelessResultKey.of("v2", assessment(), Map.of(), List.of(EMPLOYMENT_INCOME), NO_OUTGOINGS))
+                .isNotEqualTo(key);
+    }
+
+    private StatelessResultCache resultCache(boolean enabled) {
+        return new StatelessResultCache(
+                statelessAssessmentService,
+                new StatelessRequestCoalescer(false, Duration.ofSeconds(5)),
+                assessmentCriteriaService,
+                enabled,
+                DataSize.ofKilobytes(100),
+                Duration.ofMinutes(10));
+    }
+
+    private static Assessment assessment() {
+        return new Assessment()
+                .withAssessmentType(StatelessRequestType.BOTH)
+                .withAssessmentDate(ASSESSMENT_DATE)
+                .withHasPartner(false)
+                .withCaseType(CaseType.EITHER_WAY)
+                .withMagistrateCourtOutcome(MagCourtOutcome.COMMITTED_FOR_TRIAL)
+                .withEligibilityCheckRequired(false);
+    }
+
+    private static Income income(IncomeType incomeType, String amount) {
+        return new Income(incomeType, new FrequencyAmount(Frequency.MONTHLY, new BigDecimal(amount)), null);
+    }
+}
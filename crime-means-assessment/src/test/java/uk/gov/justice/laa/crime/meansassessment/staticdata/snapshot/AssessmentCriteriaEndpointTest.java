@@ -0,0 +1,56 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AssessmentCriteriaEndpointTest {
+
+    private static final AssessmentCriteriaSnapshot SNAPSHOT = AssessmentCriteriaSnapshot.builder()
+            .assessmentCriteria(List.of(TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                    .id(34)
+                    .dateFrom(LocalDateTime.of(2024, 4, 1, 0, 0))
+                    .dateTo(null)
+                    .build()))
+            .version("0123456789abcdef")
+            .build();
+
+    @Mock
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @InjectMocks
+    private AssessmentCriteriaEndpoint assessmentCriteriaEndpoint;
+
+    @Test
+    void givenCurrentSnapshot_whenDescribeIsInvoked_thenPeriodsAndVersionAreReported() {
+        when(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).thenReturn(SNAPSHOT);
+
+        AssessmentCriteriaEndpoint.SnapshotDescriptor descriptor = assessmentCriteriaEndpoint.describe();
+
+        assertThat(descriptor.version()).isEqualTo("0123456789abcdef");
+        assertThat(descriptor.periods())
+                .singleElement()
+                .satisfies(period -> {
+                    assertThat(period.id()).isEqualTo(34);
+                    assertThat(period.dateTo()).isNull();
+                });
+    }
+
+    @Test
+    void givenReloadRequested_whenReloadIsInvoked_thenReloadedSnapshotIsReported() {
+        when(assessmentCriteriaSnapshotHolder.reload()).thenReturn(SNAPSHOT);
+
+        assertThat(assessmentCriteriaEndpoint.reload().version()).isEqualTo("0123456789abcdef");
+    }
+}
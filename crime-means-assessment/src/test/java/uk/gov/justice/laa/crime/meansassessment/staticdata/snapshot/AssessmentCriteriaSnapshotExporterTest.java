@@ -0,0 +1,57 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@DataJpaTest
+@Import(DatabaseAssessmentCriteriaSnapshotLoader.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AssessmentCriteriaSnapshotExporterTest {
+
+    private static final String EXPORTED_AT = "exportedAt";
+
+    @Autowired
+    private AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    private Path exportDirectory;
+
+    @Test
+    void givenReferenceData_whenRunIsInvoked_thenExportMatchesTheCommittedBundle() throws IOException {
+        Path exportPath = exportDirectory.resolve("static-data/assessment-criteria-snapshot.json");
+
+        new AssessmentCriteriaSnapshotExporter(assessmentCriteriaSnapshotLoader, objectMapper, exportPath)
+                .run(new DefaultApplicationArguments());
+
+        JsonNode exported = objectMapper.readTree(exportPath.toFile());
+        JsonNode committed;
+        try (InputStream bundle = BundledAssessmentCriteriaSnapshotLoaderTest.BUNDLE.getInputStream()) {
+            committed = objectMapper.readTree(bundle);
+        }
+        assertThat(exported.path(EXPORTED_AT).isTextual()).isTrue();
+        assertThat(((ObjectNode) exported).without(EXPORTED_AT))
+                .isEqualTo(((ObjectNode) committed).without(EXPORTED_AT));
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class AssessmentCriteriaSnapshotHolderTest {
+
+    private static final AssessmentCriteriaSnapshot INITIAL_SNAPSHOT = snapshot("v1", "f1");
+    private static final AssessmentCriteriaSnapshot REFRESHED_SNAPSHOT = snapshot("v2", "f2");
+
+    @Mock
+    private AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        assessmentCriteriaSnapshotHolder =
+                new AssessmentCriteriaSnapshotHolder(assessmentCriteriaSnapshotLoader, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static AssessmentCriteriaSnapshot snapshot(String version, String fingerprint) {
+        return AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(List.of())
+                .version(version)
+                .fingerprint(fingerprint)
+                .build();
+    }
+
+    @Test
+    void givenNoSnapshot_whenGetSnapshotIsInvokedRepeatedly_thenSnapshotIsLoadedOnce() {
+        when(assessmentCriteriaSnapshotLoader.load()).thenReturn(INITIAL_SNAPSHOT);
+
+        assertThat(assessmentCriteriaSnapshotHolder.getSnapshot()).isSameAs(INITIAL_SNAPSHOT);
+        assertThat(assessmentCriteriaSnapshotHolder.getSnapshot()).isSameAs(INITIAL_SNAPSHOT);
+        verify(assessmentCriteriaSnapshotLoader, times(1)).load();
+    }
+
+    @Test
+    void givenUnchangedFingerprint_whenRefreshIfChangedIsInvoked_thenSnapshotIsKept() {
+        when(assessmentCriteriaSnapshotLoader.load()).thenReturn(INITIAL_SNAPSHOT);
+        when(assessmentCriteriaSnapshotLoader.readFingerprint()).thenReturn("f1");
+
+        assertThat(assessmentCriteriaSnapshotHolder.refreshIfChanged()).isFalse();
+        assertThat(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).isSameAs(INITIAL_SNAPSHOT);
+        verify(assessmentCriteriaSnapshotLoader, times(1)).load();
+    }
+
+    @Test
+    void givenChangedFingerprint_whenRefreshIfChangedIsInvoked_thenNewSnapshotIsSwappedIn() {
+        when(assessmentCriteriaSnapshotLoader.load()).thenReturn(INITIAL_SNAPSHOT, REFRESHED_SNAPSHOT);
+        when(assessmentCriteriaSnapshotLoader.readFingerprint()).thenReturn("f2");
+
+        assertThat(assessmentCriteriaSnapshotHolder.refreshIfChanged()).isTrue();
+        assertThat(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).isSameAs(REFRESHED_SNAPSHOT);
+    }
+
+    @Test
+    void givenSnapshotPinnedToRequest_whenSnapshotIsRefreshed_thenRequestKeepsPinnedSnapshot() {
+        when(assessmentCriteriaSnapshotLoader.load()).thenReturn(INITIAL_SNAPSHOT, REFRESHED_SNAPSHOT);
+        when(assessmentCriteriaSnapshotLoader.readFingerprint()).thenReturn("f2");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AssessmentCriteriaSnapshot pinned = assessmentCriteriaSnapshotHolder.getCurrentSnapshot();
+        request.setAttribute(AssessmentCriteriaSnapshotHolder.REQUEST_ATTRIBUTE, pinned);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assessmentCriteriaSnapshotHolder.refreshIfChanged();
+
+        assertThat(assessmentCriteriaSnapshotHolder.getSnapshot()).isSameAs(INITIAL_SNAPSHOT);
+        assertThat(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).isSameAs(REFRESHED_SNAPSHOT);
+    }
+
+    @Test
+    void givenLoadedSnapshot_whenReloadIsInvoked_thenSnapshotIsReplacedAndTimed() {
+        when(assessmentCriteriaSnapshotLoader.load()).thenReturn(INITIAL_SNAPSHOT, REFRESHED_SNAPSHOT);
+        assessmentCriteriaSnapshotHolder.getCurrentSnapshot();
+
+        assertThat(assessmentCriteriaSnapshotHolder.reload()).isSameAs(REFRESHED_SNAPSHOT);
+        assertThat(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).isSameAs(REFRESHED_SNAPSHOT);
+        assertThat(meterRegistry
+                        .get(AssessmentCriteriaSnapshotHolder.RELOAD_TIMER)
+                        .tags("trigger", "forced", "outcome", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenLoaderFails_whenReloadIsInvoked_thenFailureIsTimedAndCurrentSnapshotIsKept() {
+        when(assessmentCriteriaSnapshotLoader.load())
+                .thenReturn(INITIAL_SNAPSHOT)
+                .thenThrow(new IllegalStateException("database unavailable"));
+        assessmentCriteriaSnapshotHolder.getCurrentSnapshot();
+
+        assertThatThrownBy(() -> assessmentCriteriaSnapshotHolder.reload()).isInstanceOf(IllegalStateException.class);
+        assertThat(assessmentCriteriaSnapshotHolder.getCurrentSnapshot()).isSameAs(INITIAL_SNAPSHOT);
+        assertThat(meterRegistry
+                        .get(AssessmentCriteriaSnapshotHolder.RELOAD_TIMER)
+                        .tags("trigger", "forced", "outcome", "failure")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AssessmentCriteriaSnapshotTest {
+
+    private static final LocalDateTime FIRST_DATE_FROM = LocalDateTime.of(2020, 4, 1, 0, 0);
+    private static final LocalDateTime FIRST_DATE_TO = LocalDateTime.of(2021, 3, 31, 23, 59, 59);
+    private static final LocalDateTime SECOND_DATE_FROM = LocalDateTime.of(2021, 4, 1, 0, 0);
+
+    private AssessmentCriteriaSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        AssessmentCriteria first = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .id(1)
+                .dateFrom(FIRST_DATE_FROM)
+                .dateTo(FIRST_DATE_TO)
+                .build();
+        AssessmentCriteria second = TestModelDataBuilder.getAssessmentCriteriaBuilder()
+                .id(2)
+                .dateFrom(SECOND_DATE_FROM)
+                .dateTo(null)
+                .build();
+        snapshot = AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(List.of(second, first))
+                .build();
+    }
+
+    @Test
+    void givenDateWithinClosedPeriod_whenFindForDateIsInvoked_thenPeriodIsReturned() {
+        assertThat(snapshot.findForDate(FIRST_DATE_FROM.plusMonths(6)))
+                .hasValueSatisfying(criteria -> assertThat(criteria.id()).isEqualTo(1));
+    }
+
+    @Test
+    void givenDateOnPeriodBoundaries_whenFindForDateIsInvoked_thenBoundariesAreInclusive() {
+        assertThat(snapshot.findForDate(FIRST_DATE_FROM))
+                .hasValueSatisfying(criteria -> assertThat(criteria.id()).isEqualTo(1));
+        assertThat(snapshot.findForDate(FIRST_DATE_TO))
+                .hasValueSatisfying(criteria -> assertThat(criteria.id()).isEqualTo(1));
+        assertThat(snapshot.findForDate(SECOND_DATE_FROM))
+                .hasValueSatisfying(criteria -> assertThat(criteria.id()).isEqualTo(2));
+    }
+
+    @Test
+    void givenDateAfterLatestPeriodStart_whenFindForDateIsInvoked_thenOpenEndedPeriodIsReturned() {
+        assertThat(snapshot.findForDate(SECOND_DATE_FROM.plusYears(10)))
+                .hasValueSatisfying(criteria -> assertThat(criteria.id()).isEqualTo(2));
+    }
+
+    @Test
+    void givenDateBeforeFirstPeriod_whenFindForDateIsInvoked_thenEmptyIsReturned() {
+        assertThat(snapshot.findForDate(FIRST_DATE_FROM.minusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    void givenDateInGapBetweenPeriods_whenFindForDateIsInvoked_thenEmptyIsReturned() {
+        assertThat(snapshot.findForDate(FIRST_DATE_TO.plusNanos(1))).isEmpty();
+    }
+
+    @Test
+    void givenNullDate_whenFindForDateIsInvoked_thenEmptyIsReturned() {
+        assertThat(snapshot.findForDate(null)).isEmpty();
+    }
+
+    @Test
+    void givenSnapshot_whenGetAssessmentCriteriaIsInvoked_thenPeriodsAreOrderedByDateFrom() {
+        assertThat(snapshot.getAssessmentCriteria())
+                .extracting(AssessmentCriteria::id)
+                .containsExactly(1, 2);
+        assertThat(snapshot.size()).isEqualTo(2);
+    }
+
+    @Test
+    void givenLookups_whenFindForDateIsInvoked_thenHitsAndMissesAreCounted() {
+        snapshot.findForDate(FIRST_DATE_FROM);
+        snapshot.findForDate(SECOND_DATE_FROM);
+        snapshot.findForDate(FIRST_DATE_FROM.minusSeconds(1));
+
+        assertThat(snapshot.getLookupHits()).isEqualTo(2);
+        assertThat(snapshot.getLookupMisses()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
+import uk.gov.justice.laa.crime.meansassessment.staticdata.enums.Section;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BundledAssessmentCriteriaSnapshotLoaderTest {
+
+    static final Resource BUNDLE = new ClassPathResource("static-data/assessment-criteria-snapshot.json");
+
+    private static final Integer LATEST_CRITERIA_ID = 34;
+    private static final Integer APPEAL_COSTS_CRITERIA_DETAIL_ID = 146;
+    private static final int CRITERIA_PERIOD_COUNT = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void givenBundledSnapshot_whenLoadIsInvoked_thenEveryPeriodIsLoadedAtTheBundledVersion() throws IOException {
+        String bundledVersion = readBundle().version();
+
+        AssessmentCriteriaSnapshot snapshot = loader(BUNDLE).load();
+
+        assertThat(snapshot.getAssessmentCriteria()).hasSize(CRITERIA_PERIOD_COUNT);
+        assertThat(snapshot.getVersion()).isNotBlank().isEqualTo(bundledVersion);
+        assertThat(snapshot.getFingerprint()).isEqualTo(bundledVersion);
+        assertThat(loader(BUNDLE).readFingerprint()).isEqualTo(bundledVersion);
+    }
+
+    @Test
+    void givenBundledSnapshot_whenLoadIsInvoked_thenLatestPeriodChecksAppealCostsByCaseType() {
+        AssessmentCriteria criteria = loader(BUNDLE).load().findForDate(LocalDateTime.now()).orElseThrow();
+        AssessmentCriteriaCalculator calculator = criteria.calculator();
+        String section = Section.FULLB.name();
+
+        assertThat(criteria.id()).isEqualTo(LATEST_CRITERIA_ID);
+        assertThat(criteria.scaledCriteria()).isNotNull();
+        assertThatCode(() -> calculator.checkAssessmentDetail(
+                        CaseType.APPEAL_CC, section, appealCosts(BigDecimal.valueOf(500), Frequency.ANNUALLY)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> calculator.checkAssessmentDetail(
+                        CaseType.APPEAL_CC, section, appealCosts(BigDecimal.valueOf(500), Frequency.MONTHLY)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageStartingWith("Frequency: ");
+        assertThatThrownBy(() -> calculator.checkAssessmentDetail(
+                        CaseType.COMMITAL, section, appealCosts(BigDecimal.valueOf(500), Frequency.ANNUALLY)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageStartingWith("Incorrect amount entered for: ");
+    }
+
+    @Test
+    void givenBundleWithUnsupportedFormat_whenLoadIsInvoked_thenExceptionIsThrown() throws IOException {
+        AssessmentCriteriaBundle bundle = readBundle();
+        Resource resource = write(new AssessmentCriteriaBundle(
+                AssessmentCriteriaBundle.FORMAT_VERSION + 1,
+                bundle.version(),
+                bundle.exportedAt(),
+                bundle.assessmentCriteria()));
+
+        assertThatThrownBy(() -> loader(resource).load())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unsupported assessment criteria bundle format");
+    }
+
+    @Test
+    void givenBundleWhoseContentDoesNotMatchItsVersion_whenLoadIsInvoked_thenExceptionIsThrown()
+            throws IOException {
+        AssessmentCriteriaBundle bundle = readBundle();
+        Resource resource = write(new AssessmentCriteriaBundle(
+                bundle.formatVersion(), "0000000000000000", bundle.exportedAt(), bundle.assessmentCriteria()));
+
+        assertThatThrownBy(() -> loader(resource).load())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("declares version 0000000000000000");
+    }
+
+    @Test
+    void givenMissingBundle_whenLoadIsInvoked_thenExceptionIsThrown() {
+        Resource resource = new ClassPathResource("static-data/missing.json");
+
+        assertThatThrownBy(() -> loader(resource).load()).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private BundledAssessmentCriteriaSnapshotLoader loader(Resource resource) {
+        return new BundledAssessmentCriteriaSnapshotLoader(objectMapper, resource);
+    }
+
+    private AssessmentCriteriaBundle readBundle() throws IOException {
+        return objectMapper.readValue(BUNDLE.getInputStream(), AssessmentCriteriaBundle.class);
+    }
+
+    private Resource write(AssessmentCriteriaBundle bundle) throws IOException {
+        return new ByteArrayResource(objectMapper.writeValueAsBytes(bundle));
+    }
+
+    private static ApiAssessmentDetail appealCosts(BigDecimal applicantAmount, Frequency applicantFrequency) {
+        return new ApiAssessmentDetail()
+                .withCriteriaDetailId(APPEAL_COSTS_CRITERIA_DETAIL_ID)
+                .withApplicantAmount(applicantAmount)
+                .withApplicantFrequency(applicantFrequency)
+                .withPartnerAmount(BigDecimal.ZERO);
+    }
+}
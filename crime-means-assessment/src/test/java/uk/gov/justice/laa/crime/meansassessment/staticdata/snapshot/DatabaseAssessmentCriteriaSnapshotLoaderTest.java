@@ -0,0 +1,226 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.justice.laa.crime.common.model.meansassessment.ApiAssessmentDetail;
+import uk.gov.justice.laa.crime.enums.CaseType;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.meansassessment.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+@Import(DatabaseAssessmentCriteriaSnapshotLoader.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseAssessmentCriteriaSnapshotLoaderTest {
+
+    private static final Integer LATEST_CRITERIA_ID = 34;
+    private static final Integer APPEAL_COSTS_CRITERIA_DETAIL_ID = 146;
+    private static final int FINGERPRINT_QUERY_COUNT = 5;
+    private static final int LOADER_QUERY_COUNT = FINGERPRINT_QUERY_COUNT + 4;
+    private static final String UPDATE_LIVING_ALLOWANCE =
+            "update CRIME_MEANS_ASSESSMENT.ASSESSMENT_CRITERIA set LIVING_ALLOWANCE = LIVING_ALLOWANCE + ?"
+                    + " where ID = ?";
+
+    @Autowired
+    private AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenCriteriaGraphIsUsableOutsideTheSession() {
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotLoader.load();
+
+        AssessmentCriteria criteria = snapshot.findForDate(LocalDateTime.now()).orElseThrow();
+
+        assertThat(criteria.id()).isEqualTo(LATEST_CRITERIA_ID);
+        assertThat(criteria.childWeightings()).isNotEmpty();
+        assertThat(criteria.details()).isNotEmpty();
+        assertThat(criteria.details()).allSatisfy(detail -> assertThat(detail.caseTypeValues()).isNotNull());
+    }
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenPermittedFrequenciesArePopulatedForEachDetail() {
+        AssessmentCriteria criteria = assessmentCriteriaSnapshotLoader
+                .load()
+                .findForDate(LocalDateTime.now())
+                .orElseThrow();
+
+        assertThat(criteria.details()).allSatisfy(detail -> assertThat(detail.permittedFrequencies()).isNotNull());
+        assertThat(criteria.details())
+                .anySatisfy(detail -> assertThat(detail.permittedFrequencies()).contains(Frequency.MONTHLY));
+    }
+
+    @Test
+    void givenLoadedSnapshot_whenCollectionsAreModified_thenExceptionIsThrown() {
+        AssessmentCriteria criteria = assessmentCriteriaSnapshotLoader
+                .load()
+                .findForDate(LocalDateTime.now())
+                .orElseThrow();
+
+        assertThatThrownBy(() -> criteria.details().add(AssessmentCriteriaDetail.builder().build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> criteria.details().get(0).permittedFrequencies().add(Frequency.WEEKLY))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenAppealCostsAreCheckedByCaseType() {
+        AssessmentCriteria criteria = assessmentCriteriaSnapshotLoader
+                .load()
+                .getAssessmentCriteria()
+                .stream()
+                .filter(period -> period.details().stream()
+                        .anyMatch(detail -> APPEAL_COSTS_CRITERIA_DETAIL_ID.equals(detail.id())))
+                .findFirst()
+                .orElseThrow();
+        AssessmentCriteriaCalculator calculator = criteria.calculator();
+        String section = criteria.details().stream()
+                .filter(detail -> APPEAL_COSTS_CRITERIA_DETAIL_ID.equals(detail.id()))
+                .map(AssessmentCriteriaDetail::section)
+                .findFirst()
+                .orElseThrow();
+
+        assertThatCode(() -> calculator.checkAssessmentDetail(
+                        CaseType.APPEAL_CC, section, appealCosts(new BigDecimal("500"))))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> calculator.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, section, appealCosts(BigDecimal.ZERO)))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> calculator.checkAssessmentDetail(null, section, appealCosts(BigDecimal.ZERO)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> calculator.checkAssessmentDetail(
+                        CaseType.EITHER_WAY, section, appealCosts(new BigDecimal("500"))))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageStartingWith("Incorrect amount entered for: ");
+    }
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenEveryDetailIsCheckedInItsSection() {
+        AssessmentCriteria criteria = assessmentCriteriaSnapshotLoader
+                .load()
+                .findForDate(LocalDateTime.now())
+                .orElseThrow();
+
+        assertThat(criteria.details())
+                .allSatisfy(detail -> assertThatThrownBy(() -> criteria.calculator()
+                                .checkAssessmentDetail(null, "NO SECTION", detailOf(detail)))
+                        .isInstanceOf(ValidationException.class)
+                        .hasMessageStartingWith("Section: NO SECTION criteria detail item: " + detail.id()))
+                .allSatisfy(detail -> assertThatCode(() -> criteria.calculator()
+                                .checkAssessmentDetail(null, detail.section(), detailOf(detail)))
+                        .doesNotThrowAnyException());
+    }
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenDetailsAreIndexedByDetailCode() {
+        AssessmentCriteria criteria = assessmentCriteriaSnapshotLoader
+                .load()
+                .findForDate(LocalDateTime.now())
+                .orElseThrow();
+
+        assertThat(criteria.details())
+                .allSatisfy(detail -> assertThat(criteria.detailsByCode().get(detail.detailCode()))
+                        .isSameAs(detail));
+    }
+
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenStatementCountIsIndependentOfPeriodCount() {
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotLoader.load();
+
+        assertThat(snapshot.size()).isGreaterThan(1);
+        assertThat(snapshot.getStatementCount()).isEqualTo(LOADER_QUERY_COUNT);
+        assertThat(snapshot.getLoadDuration()).isPositive();
+    }
+
+    @Test
+    void givenUnchangedReferenceData_whenLoadIsInvokedTwice_thenVersionAndFingerprintAreStable() {
+        AssessmentCriteriaSnapshot first = assessmentCriteriaSnapshotLoader.load();
+        AssessmentCriteriaSnapshot second = assessmentCriteriaSnapshotLoader.load();
+
+        assertThat(first.getVersion()).isNotBlank().isEqualTo(second.getVersion());
+        assertThat(first.getFingerprint()).isEqualTo(second.getFingerprint());
+        assertThat(assessmentCriteriaSnapshotLoader.readFingerprint()).isEqualTo(first.getFingerprint());
+    }
+
+    @Test
+    void givenValueUpdatedWithoutAuditTimestamp_whenFingerprintIsRead_thenItChanges() {
+        String fingerprint = assessmentCriteriaSnapshotLoader.readFingerprint();
+
+        jdbcTemplate.update(UPDATE_LIVING_ALLOWANCE, BigDecimal.ONE, LATEST_CRITERIA_ID);
+        try {
+            assertThat(assessmentCriteriaSnapshotLoader.readFingerprint()).isNotEqualTo(fingerprint);
+        } finally {
+            jdbcTemplate.update(UPDATE_LIVING_ALLOWANCE, BigDecimal.ONE.negate(), LATEST_CRITERIA_ID);
+        }
+        assertThat(assessmentCriteriaSnapshotLoader.readFingerprint()).isEqualTo(fingerprint);
+    }
+
+    // The committed bundle has to be re-exported whenever a changeset alters the reference data
+    @Test
+    void givenReferenceData_whenLoadIsInvoked_thenVersionMatchesTheCommittedBundle() {
+        AssessmentCriteriaSnapshot bundled = new BundledAssessmentCriteriaSnapshotLoader(
+                        new ObjectMapper().findAndRegisterModules(), BundledAssessmentCriteriaSnapshotLoaderTest.BUNDLE)
+                .load();
+
+        assertThat(assessmentCriteriaSnapshotLoader.load().getVersion()).isEqualTo(bundled.getVersion());
+    }
+
+    @Test
+    void givenLoadedSnapshot_whenRoundTrippedThroughBundle_thenContentAndVersionArePreserved() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotLoader.load();
+
+        String json = objectMapper.writeValueAsString(AssessmentCriteriaBundleMapper.toBundle(snapshot, Instant.now()));
+        AssessmentCriteriaBundle bundle = objectMapper.readValue(json, AssessmentCriteriaBundle.class);
+        List<AssessmentCriteria> assessmentCriteria = AssessmentCriteriaBundleMapper.toAssessmentCriteria(bundle);
+
+        assertThat(bundle.formatVersion()).isEqualTo(AssessmentCriteriaBundle.FORMAT_VERSION);
+        assertThat(bundle.version()).isEqualTo(snapshot.getVersion());
+        assertThat(AssessmentCriteriaSnapshotVersion.of(assessmentCriteria)).isEqualTo(snapshot.getVersion());
+        AssessmentCriteria criteria = AssessmentCriteriaSnapshot.builder()
+                .assessmentCriteria(assessmentCriteria)
+                .build()
+                .findForDate(LocalDateTime.now())
+                .orElseThrow();
+        assertThat(criteria.id()).isEqualTo(LATEST_CRITERIA_ID);
+        assertThat(criteria.details())
+                .allSatisfy(detail -> assertThatCode(() -> criteria.calculator()
+                                .checkAssessmentDetail(null, detail.section(), detailOf(detail)))
+                        .doesNotThrowAnyException());
+    }
+
+    private static ApiAssessmentDetail appealCosts(BigDecimal applicantAmount) {
+        return new ApiAssessmentDetail()
+                .withCriteriaDetailId(APPEAL_COSTS_CRITERIA_DETAIL_ID)
+                .withApplicantAmount(applicantAmount)
+                .withPartnerAmount(BigDecimal.ZERO);
+    }
+
+    private static ApiAssessmentDetail detailOf(AssessmentCriteriaDetail criteriaDetail) {
+        AssessmentCriteriaDetail.CaseTypeValue defaultValue = criteriaDetail.caseTypeValues().stream()
+                .filter(value -> value.caseType() == null)
+                .findFirst()
+                .orElse(null);
+        return new ApiAssessmentDetail()
+                .withCriteriaDetailId(criteriaDetail.id())
+                .withApplicantAmount(defaultValue != null ? defaultValue.applicantValue() : BigDecimal.ZERO)
+                .withPartnerAmount(defaultValue != null ? defaultValue.partnerValue() : BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.justice.laa.crime.meansassessment.staticdata.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import uk.gov.justice.laa.crime.meansassessment.CrimeMeansAssessmentApplication;
+import uk.gov.justice.laa.crime.meansassessment.config.CrimeMeansAssessmentTestConfiguration;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DirtiesContext
+@ActiveProfiles("stateless")
+@Import(CrimeMeansAssessmentTestConfiguration.class)
+@SpringBootTest(classes = CrimeMeansAssessmentApplication.class)
+class StatelessProfileIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private AssessmentCriteriaSnapshotLoader assessmentCriteriaSnapshotLoader;
+
+    @Autowired
+    private AssessmentCriteriaSnapshotHolder assessmentCriteriaSnapshotHolder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void givenStatelessProfile_whenContextStarts_thenNoDatasourceIsCreated() {
+        assertThat(applicationContext.getBeanNamesForType(DataSource.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(EntityManagerFactory.class)).isEmpty();
+        assertThat(assessmentCriteriaSnapshotLoader).isInstanceOf(BundledAssessmentCriteriaSnapshotLoader.class);
+    }
+
+    @Test
+    void givenStatelessProfile_whenContextStarts_thenCriteriaAreServedFromTheBundle() throws IOException {
+        AssessmentCriteriaBundle bundle = objectMapper.readValue(
+                BundledAssessmentCriteriaSnapshotLoaderTest.BUNDLE.getInputStream(), AssessmentCriteriaBundle.class);
+
+        AssessmentCriteriaSnapshot snapshot = assessmentCriteriaSnapshotHolder.getSnapshot();
+
+        assertThat(snapshot.getVersion()).isEqualTo(bundle.version());
+        assertThat(snapshot.findForDate(LocalDateTime.now())).isPresent();
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.service;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationDecisionCacheEndpointTest {
+
+    @Mock
+    private AuthorizationDecisionCache authorizationDecisionCache;
+
+    @InjectMocks
+    private AuthorizationDecisionCacheEndpoint authorizationDecisionCacheEndpoint;
+
+    @Test
+    void givenUsername_whenInvalidateIsInvoked_thenThatUsersGrantsAreDropped() {
+        authorizationDecisionCacheEndpoint.invalidate("test-user");
+
+        verify(authorizationDecisionCache).invalidate("test-user");
+    }
+
+    @Test
+    void givenNoUsername_whenInvalidateAllIsInvoked_thenEveryGrantIsDropped() {
+        authorizationDecisionCacheEndpoint.invalidateAll();
+
+        verify(authorizationDecisionCache).invalidateAll();
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.justice.laa.crime.meansassessment.validation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class AuthorizationDecisionCacheTest {
+
+    private static final String USERNAME = "test-user";
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    void givenCacheIsDisabled_whenGrantIsCheckedTwice_thenEachCheckIsLookedUp() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(false, 100, Duration.ofMinutes(5));
+
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void givenDecisionsOfDifferentTypes_whenGrantsAreChecked_thenEachIsLookedUpSeparately() {
+        AuthorizationDecisionCache cache = cache();
+
+        assertThat(cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant))
+                .isTrue();
+        assertThat(cache.isNewWorkReasonGranted(USERNAME, "CREATE_ASSESSMENT", this::grant))
+                .isTrue();
+        assertThat(cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant))
+                .isTrue();
+
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void givenUserIsInvalidated_whenGrantIsChecked_thenItIsLookedUpAgain() {
+        AuthorizationDecisionCache cache = cache();
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted("other-user", "CREATE_ASSESSMENT", this::grant);
+
+        cache.invalidate(USERNAME);
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted("other-user", "CREATE_ASSESSMENT", this::grant);
+
+        assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    void givenGrantWithoutUsername_whenUserIsInvalidated_thenOnlyTheirGrantsAreLookedUpAgain() {
+        AuthorizationDecisionCache cache = cache();
+        cache.isRoleActionGranted(null, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+
+        cache.invalidate(USERNAME);
+        cache.isRoleActionGranted(null, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+
+        assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    void givenCacheIsEnabled_whenBoundToRegistry_thenHitsAndMissesAreExported() {
+        AuthorizationDecisionCache cache = cache();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+        cache.isRoleActionGranted(USERNAME, "CREATE_ASSESSMENT", this::grant);
+
+        assertThat(registry.get("cache.gets")
+                        .tag("cache", AuthorizationDecisionCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.gets")
+                        .tag("cache", AuthorizationDecisionCache.CACHE_NAME)
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    private AuthorizationDecisionCache cache() {
+        return new AuthorizationDecisionCache(true, 100, Duration.ofMinutes(5));
+    }
+
+    private boolean grant() {
+        lookups.incrementAndGet();
+        return true;
+    }
+}
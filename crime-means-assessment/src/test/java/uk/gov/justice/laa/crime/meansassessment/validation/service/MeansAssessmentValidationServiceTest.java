@@ -3,6 +3,8 @@ package uk.gov.justice.laa.crime.meansassessment.validation.service;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.laa.crime.enums.NewWorkReason;
@@ -12,10 +14,11 @@ import uk.gov.justice.laa.crime.meansassessment.dto.AuthorizationResponseDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.MeansAssessmentRequestDTO;
 import uk.gov.justice.laa.crime.meansassessment.dto.OutstandingAssessmentResultDTO;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,11 +41,12 @@ class MeansAssessmentValidationServiceTest {
 
     private MeansAssessmentRequestDTO requestDTO;
 
-    @InjectMocks
     private MeansAssessmentValidationService meansAssessmentValidationService;
 
     @BeforeEach
     void setup() {
+        meansAssessmentValidationService = new MeansAssessmentValidationService(
+                null, maatAPIClient, new AuthorizationDecisionCache(true, 100, Duration.ofMinutes(5)));
         requestDTO = TestModelDataBuilder.getMeansAssessmentRequestDTO(true);
     }
 
@@ -100,6 +104,42 @@ class MeansAssessmentValidationServiceTest {
                 .isTrue();
     }
 
+    @Test
+    void givenRoleActionGranted_whenIsRoleActionValidIsInvokedAgain_thenCourtDataApiIsCalledOnce() {
+        when(maatAPIClient.getUserRoleAction(anyString(), anyString())).thenReturn(TRUE_AUTH_RESPONSE);
+
+        assertThat(meansAssessmentValidationService.isRoleActionValid(requestDTO, "FMA"))
+                .isTrue();
+        assertThat(meansAssessmentValidationService.isRoleActionValid(requestDTO, "FMA"))
+                .isTrue();
+
+        verify(maatAPIClient, times(1)).getUserRoleAction(TestModelDataBuilder.TEST_USER, "FMA");
+    }
+
+    @Test
+    void givenRoleActionRefused_whenIsRoleActionValidIsInvokedAgain_thenCourtDataApiIsCalledAgain() {
+        when(maatAPIClient.getUserRoleAction(anyString(), anyString()))
+                .thenReturn(FALSE_AUTH_RESPONSE, TRUE_AUTH_RESPONSE);
+
+        assertThat(meansAssessmentValidationService.isRoleActionValid(requestDTO, "FMA"))
+                .isFalse();
+        assertThat(meansAssessmentValidationService.isRoleActionValid(requestDTO, "FMA"))
+                .isTrue();
+
+        verify(maatAPIClient, times(2)).getUserRoleAction(TestModelDataBuilder.TEST_USER, "FMA");
+    }
+
+    @Test
+    void givenReservationChecked_whenIsRepOrderReservedIsInvokedAgain_thenCourtDataApiIsCalledAgain() {
+        when(maatAPIClient.getReservationDetail(anyString(), anyInt(), anyString()))
+                .thenReturn(TRUE_AUTH_RESPONSE);
+
+        meansAssessmentValidationService.isRepOrderReserved(requestDTO);
+        meansAssessmentValidationService.isRepOrderReserved(requestDTO);
+
+        verify(maatAPIClient, times(2)).getReservationDetail(anyString(), anyInt(), anyString());
+    }
+
     @Test
     void givenValidReservation_whenIsRepOrderReserved_thenTrueIsReturned() {
         when(maatAPIClient.getReservationDetail(anyString(), anyInt(), anyString()))
@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor.MSG_FULL_ASSESSMENT_DATE_REQUIRED;
 import static uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor.MSG_INCOMPLETE_ASSESSMENT_FOUND;
@@ -17,6 +19,7 @@ import static uk.gov.justice.laa.crime.meansassessment.validation.validator.Mean
 import static uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor.MSG_REP_ID_REQUIRED;
 import static uk.gov.justice.laa.crime.meansassessment.validation.validator.MeansAssessmentValidationProcessor.MSG_ROLE_ACTION_IS_NOT_VALID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.enums.AssessmentType;
 import uk.gov.justice.laa.crime.enums.RequestType;
 import uk.gov.justice.laa.crime.meansassessment.data.builder.TestModelDataBuilder;
@@ -26,13 +29,15 @@ import uk.gov.justice.laa.crime.meansassessment.validation.service.MeansAssessme
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class MeansAssessmentValidationProcessorTest {
@@ -49,11 +54,15 @@ class MeansAssessmentValidationProcessorTest {
     @Mock
     private FullAssessmentValidator fullAssessmentValidator;
 
-    @InjectMocks
     private MeansAssessmentValidationProcessor meansAssessmentValidationProcessor;
 
     @BeforeEach
     void setup() {
+        meansAssessmentValidationProcessor = new MeansAssessmentValidationProcessor(
+                initAssessmentValidator,
+                fullAssessmentValidator,
+                meansAssessmentValidationService,
+                new SimpleAsyncTaskExecutor());
         createMeansAssessmentRequest = TestModelDataBuilder.getMeansAssessmentRequestDTO(true);
         fullAssessment = MeansAssessmentRequestDTO.builder()
                 .assessmentType(AssessmentType.FULL)
@@ -130,12 +139,43 @@ class MeansAssessmentValidationProcessorTest {
                 .hasMessage(MSG_FULL_ASSESSMENT_DATE_REQUIRED);
     }
 
+    @Test
+    void givenRemoteCheckDeclaredBeforeFailedLocalRuleFails_whenValidateIsInvoked_thenRemoteFailureIsReported() {
+        when(meansAssessmentValidationService.isRoleActionValid(
+                        any(MeansAssessmentRequestDTO.class), any(String.class)))
+                .thenReturn(Boolean.FALSE);
+
+        assertThatThrownBy(() ->
+                        meansAssessmentValidationProcessor.validate(createMeansAssessmentRequest, RequestType.UPDATE))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(MSG_ROLE_ACTION_IS_NOT_VALID);
+    }
+
+    @Test
+    void givenLocalRuleFails_whenValidateIsInvoked_thenAvoidedRemoteCallsAreCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        meansAssessmentValidationProcessor.bindTo(registry);
+        createMeansAssessmentRequest.setRepId(-1000);
+
+        assertThatThrownBy(() ->
+                        meansAssessmentValidationProcessor.validate(createMeansAssessmentRequest, RequestType.CREATE))
+                .hasMessage(MSG_REP_ID_REQUIRED);
+
+        verifyNoInteractions(meansAssessmentValidationService);
+
+        assertThat(registry.get(MeansAssessmentValidationProcessor.AVOIDED_REMOTE_CALLS_COUNTER)
+                        .functionCounter()
+                        .count())
+                .isEqualTo(4);
+    }
+
     @Test
     void givenInvalidNewWorkReason_whenValidateIsInvoked_thenCorrectExceptionIsThrown() {
         when(meansAssessmentValidationService.isNewWorkReasonValid(any(MeansAssessmentRequestDTO.class)))
                 .thenReturn(Boolean.FALSE);
 
         buildMockForRoleActionValidAndRepOrderReserved();
+        buildMockForLocalRulesValid();
 
         ValidationException validationException = assertThrows(
                 ValidationException.class,
@@ -169,6 +209,7 @@ class MeansAssessmentValidationProcessorTest {
 
         when(meansAssessmentValidationService.isRepOrderReserved(any(MeansAssessmentRequestDTO.class)))
                 .thenReturn(Boolean.FALSE);
+        buildMockForLocalRulesValid();
 
         ValidationException validationException = assertThrows(
                 ValidationException.class,
@@ -181,6 +222,7 @@ class MeansAssessmentValidationProcessorTest {
         when(meansAssessmentValidationService.isRoleActionValid(
                         any(MeansAssessmentRequestDTO.class), any(String.class)))
                 .thenReturn(Boolean.FALSE);
+        buildMockForLocalRulesValid();
 
         ValidationException validationException = assertThrows(
                 ValidationException.class,
@@ -194,6 +236,7 @@ class MeansAssessmentValidationProcessorTest {
 
         when(meansAssessmentValidationService.isOutstandingAssessment(any(MeansAssessmentRequestDTO.class)))
                 .thenReturn(Boolean.TRUE);
+        buildMockForLocalRulesValid();
 
         ValidationException validationException = assertThrows(
                 ValidationException.class,
@@ -201,6 +244,57 @@ class MeansAssessmentValidationProcessorTest {
         assertThat(validationException.getMessage()).isEqualTo(MSG_INCOMPLETE_ASSESSMENT_FOUND);
     }
 
+    @Test
+    void givenLaterCheckFailsFirst_whenEarlierCheckFails_thenEarlierFailureIsReported() {
+        when(fullAssessmentValidator.validate(fullAssessment)).thenReturn(Boolean.TRUE);
+        CountDownLatch reservationChecked = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    reservationChecked.await(5, TimeUnit.SECONDS);
+                    return Boolean.FALSE;
+                })
+                .when(meansAssessmentValidationService)
+                .isRoleActionValid(any(MeansAssessmentRequestDTO.class), any(String.class));
+        doAnswer(invocation -> {
+                    reservationChecked.countDown();
+                    return Boolean.FALSE;
+                })
+                .when(meansAssessmentValidationService)
+                .isRepOrderReserved(any(MeansAssessmentRequestDTO.class));
+
+        assertThatThrownBy(() -> meansAssessmentValidationProcessor.validate(fullAssessment, RequestType.UPDATE))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(MSG_ROLE_ACTION_IS_NOT_VALID);
+    }
+
+    @Test
+    void givenEarlierCheckFails_whenLaterCheckIsInFlight_thenLaterCheckIsCancelled() throws InterruptedException {
+        when(fullAssessmentValidator.validate(fullAssessment)).thenReturn(Boolean.TRUE);
+        CountDownLatch reservationStarted = new CountDownLatch(1);
+        CountDownLatch reservationInterrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    reservationStarted.await(5, TimeUnit.SECONDS);
+                    return Boolean.FALSE;
+                })
+                .when(meansAssessmentValidationService)
+                .isRoleActionValid(any(MeansAssessmentRequestDTO.class), any(String.class));
+        doAnswer(invocation -> {
+                    reservationStarted.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                    } catch (InterruptedException e) {
+                        reservationInterrupted.countDown();
+                    }
+                    return Boolean.TRUE;
+                })
+                .when(meansAssessmentValidationService)
+                .isRepOrderReserved(any(MeansAssessmentRequestDTO.class));
+
+        assertThatThrownBy(() -> meansAssessmentValidationProcessor.validate(fullAssessment, RequestType.UPDATE))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(MSG_ROLE_ACTION_IS_NOT_VALID);
+        assertThat(reservationInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
     private void buildMockForRoleActionValidAndRepOrderReserved() {
         when(meansAssessmentValidationService.isRoleActionValid(
                         any(MeansAssessmentRequestDTO.class), any(String.class)))
@@ -209,4 +303,9 @@ class MeansAssessmentValidationProcessorTest {
         when(meansAssessmentValidationService.isRepOrderReserved(any(MeansAssessmentRequestDTO.class)))
                 .thenReturn(Boolean.TRUE);
     }
+
+    private void buildMockForLocalRulesValid() {
+        when(initAssessmentValidator.validate(any(MeansAssessmentRequestDTO.class)))
+                .thenReturn(Boolean.TRUE);
+    }
 }